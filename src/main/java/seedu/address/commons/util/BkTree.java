@@ -0,0 +1,185 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A case-insensitive BK-tree from string keys to the values filed under them, for looking up the keys within a
+ * small edit distance of a query.
+ * Keys are case-folded with {@link StringUtil#foldCase(String)} and compared by {@link StringUtil#editDistance}.
+ * Each child edge is labelled with the distance between the keys at its ends, so by the triangle inequality a
+ * search only descends into edges whose label is within the search distance of the query's distance to the
+ * parent, and compares the query against a small part of the keys.
+ *
+ * A key whose last value is removed stays in the tree to route searches, but is no longer returned. Once such
+ * dead keys make up more than half of the tree, it is rebuilt from the live keys alone, so each removal costs
+ * amortized O(1) additions.
+ *
+ * @param <V> type of the values filed under the keys.
+ */
+public class BkTree<V> implements StringKeyIndex<V> {
+
+    private Node<V> root;
+    // the number of keys in the tree, and how many of them hold no values
+    private int keyCount;
+    private int deadKeyCount;
+
+    @Override
+    public void add(String key, V value) {
+        requireNonNull(value);
+        String foldedKey = StringUtil.foldCase(key);
+        Node<V> node = findOrAddNode(foldedKey);
+        if (node.values.isEmpty()) {
+            deadKeyCount--;
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Returns the node of {@code foldedKey}, adding a node without values for it if there is none.
+     */
+    private Node<V> findOrAddNode(String foldedKey) {
+        if (root == null) {
+            root = new Node<>(foldedKey);
+            keyCount++;
+            deadKeyCount++;
+            return root;
+        }
+
+        Node<V> node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(foldedKey, node.key);
+            if (distance == 0) {
+                return node;
+            }
+            Node<V> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(foldedKey);
+                node.children.put(distance, child);
+                keyCount++;
+                deadKeyCount++;
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    @Override
+    public void remove(String key, V value) {
+        requireNonNull(value);
+        String foldedKey = StringUtil.foldCase(key);
+        Node<V> node = root;
+        while (node != null) {
+            int distance = StringUtil.editDistance(foldedKey, node.key);
+            if (distance == 0) {
+                if (node.values.remove(value) && node.values.isEmpty()) {
+                    deadKeyCount++;
+                    rebuildIfMostlyDead();
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Rebuilds the tree from its live keys if more than half of its keys are dead.
+     */
+    private void rebuildIfMostlyDead() {
+        if (deadKeyCount * 2 <= keyCount) {
+            return;
+        }
+        List<Node<V>> liveNodes = new ArrayList<>();
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            if (!node.values.isEmpty()) {
+                liveNodes.add(node);
+            }
+            node.children.values().forEach(pending::push);
+        }
+
+        clear();
+        for (Node<V> liveNode : liveNodes) {
+            Node<V> node = findOrAddNode(liveNode.key);
+            node.values.addAll(liveNode.values);
+            deadKeyCount--;
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        keyCount = 0;
+        deadKeyCount = 0;
+    }
+
+    /**
+     * Returns the number of keys in the tree, including dead keys that no longer hold values.
+     */
+    int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Returns the values filed under every key within {@code maxDistance} edits of {@code key}, ignoring case.
+     * Values appear once each, ordered by the distance of the nearest key they are filed under.
+     */
+    public List<V> getValuesWithin(String key, int maxDistance) {
+        if (root == null || maxDistance < 0) {
+            return List.of();
+        }
+
+        String foldedKey = StringUtil.foldCase(key);
+        List<Match<V>> matches = new ArrayList<>();
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            int distance = StringUtil.editDistance(foldedKey, node.key);
+            if (distance <= maxDistance && !node.values.isEmpty()) {
+                matches.add(new Match<>(distance, node));
+            }
+            for (Map.Entry<Integer, Node<V>> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(match -> match.distance));
+        Set<V> values = new LinkedHashSet<>();
+        matches.forEach(match -> values.addAll(match.node.values));
+        return List.copyOf(values);
+    }
+
+    private static final class Node<V> {
+        private final String key;
+        private final Set<V> values = new LinkedHashSet<>();
+        private final Map<Integer, Node<V>> children = new HashMap<>();
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Match<V> {
+        private final int distance;
+        private final Node<V> node;
+
+        Match(int distance, Node<V> node) {
+            this.distance = distance;
+            this.node = node;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,48 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the {@code limit} least elements of {@code items} by {@code comparator}, in order, with equal elements
+     * in the order {@code items} gives them and the earlier ones kept when not all of them fit.
+     * The elements are selected with a heap of at most {@code limit} elements, so this takes O(n log limit) time
+     * for n elements and never holds more than {@code limit} of them.
+     */
+    public static <T> List<T> least(Stream<T> items, int limit, Comparator<? super T> comparator) {
+        requireAllNonNull(items, comparator);
+        checkArgument(limit > 0, "The limit should be positive.");
+        Comparator<Ranked<T>> order = Comparator.<Ranked<T>, T>comparing(ranked -> ranked.item, comparator)
+                .thenComparingLong(ranked -> ranked.position);
+        // the greatest of the elements kept so far is at the head, to be evicted by any lesser element
+        PriorityQueue<Ranked<T>> kept = new PriorityQueue<>(order.reversed());
+        long[] position = {0};
+        items.forEachOrdered(item -> {
+            Ranked<T> ranked = new Ranked<>(item, position[0]++);
+            if (kept.size() < limit) {
+                kept.add(ranked);
+            } else if (order.compare(ranked, kept.peek()) < 0) {
+                kept.poll();
+                kept.add(ranked);
+            }
+        });
+
+        List<Ranked<T>> sorted = new ArrayList<>(kept);
+        sorted.sort(order);
+        List<T> least = new ArrayList<>(sorted.size());
+        sorted.forEach(ranked -> least.add(ranked.item));
+        return least;
+    }
+
+    /**
+     * An element together with its position in the elements it was selected from.
+     */
+    private static final class Ranked<T> {
+        private final T item;
+        private final long position;
+
+        Ranked(T item, long position) {
+            this.item = item;
+            this.position = position;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A map of bounded size that evicts its least recently used entry to make room for a new one.
+ * Both {@link #get(Object)} and {@link #put(Object, Object)} count as a use of the entry.
+ *
+ * Does not allow null keys or values.
+ *
+ * @param <K> type of the keys, which must implement {@code equals} and {@code hashCode}.
+ * @param <V> type of the values.
+ */
+public class LruCache<K, V> {
+
+    private final int capacity;
+    private final Map<K, V> entries;
+
+    /**
+     * Creates an empty cache that holds at most {@code capacity} entries, which must be positive.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.capacity = capacity;
+        // access order moves an entry to the end whenever it is read or written
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached under {@code key}, if any, and marks it as the most recently used.
+     */
+    public Optional<V> get(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Caches {@code value} under {@code key}, evicting the least recently used entry if the cache is full.
+     */
+    public void put(K key, V value) {
+        requireAllNonNull(key, value);
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries cached.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
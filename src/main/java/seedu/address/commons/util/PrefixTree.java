@@ -0,0 +1,179 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A case-insensitive radix tree from string keys to the values filed under them.
+ * Keys are case-folded with {@link StringUtil#foldCase(String)} before they are stored or looked up.
+ * Every node other than the root holds values or has at least two children, so looking up all values under a
+ * prefix takes time proportional to the length of the prefix plus the number of values found.
+ *
+ * @param <V> type of the values filed under the keys.
+ */
+public class PrefixTree<V> implements StringKeyIndex<V> {
+
+    private final Node<V> root = new Node<>("");
+
+    @Override
+    public void add(String key, V value) {
+        requireNonNull(value);
+        String foldedKey = StringUtil.foldCase(key);
+        Node<V> node = root;
+        int position = 0;
+        while (position < foldedKey.length()) {
+            char next = foldedKey.charAt(position);
+            Node<V> child = node.children.get(next);
+            if (child == null) {
+                child = new Node<>(foldedKey.substring(position));
+                node.children.put(next, child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, foldedKey, position);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            position += common;
+        }
+        node.values.add(value);
+    }
+
+    @Override
+    public void remove(String key, V value) {
+        requireNonNull(value);
+        String foldedKey = StringUtil.foldCase(key);
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        int position = 0;
+        while (position < foldedKey.length()) {
+            path.add(node);
+            node = node.children.get(foldedKey.charAt(position));
+            if (node == null || !foldedKey.startsWith(node.label, position)) {
+                return;
+            }
+            position += node.label.length();
+        }
+        if (!node.values.remove(value) || node == root) {
+            return;
+        }
+
+        Node<V> parent = path.get(path.size() - 1);
+        if (node.values.isEmpty() && node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            if (parent != root) {
+                mergeWithOnlyChild(parent);
+            }
+        } else {
+            mergeWithOnlyChild(node);
+        }
+    }
+
+    @Override
+    public void clear() {
+        root.children.clear();
+        root.values.clear();
+    }
+
+    /**
+     * Returns the values filed under every key that starts with {@code prefix}, ignoring case.
+     * Values appear once each, ordered by their keys and then by the order they were added.
+     */
+    public List<V> getValuesWithPrefix(String prefix) {
+        Node<V> node = findPrefixNode(StringUtil.foldCase(prefix));
+        if (node == null) {
+            return List.of();
+        }
+
+        Set<V> values = new LinkedHashSet<>();
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            Node<V> current = pending.pop();
+            values.addAll(current.values);
+            // pushed in reverse so that children are visited in key order
+            current.children.descendingMap().values().forEach(pending::push);
+        }
+        return List.copyOf(values);
+    }
+
+    /**
+     * Returns the node at or just below the end of the path spelled by {@code foldedPrefix}, or null if no key
+     * starts with it.
+     */
+    private Node<V> findPrefixNode(String foldedPrefix) {
+        Node<V> node = root;
+        int position = 0;
+        while (position < foldedPrefix.length()) {
+            node = node.children.get(foldedPrefix.charAt(position));
+            if (node == null) {
+                return null;
+            }
+            int common = commonPrefixLength(node.label, foldedPrefix, position);
+            if (position + common == foldedPrefix.length()) {
+                return node;
+            } else if (common < node.label.length()) {
+                return null;
+            }
+            position += common;
+        }
+        return node;
+    }
+
+    /**
+     * Splits the label of {@code child} after {@code length} characters, inserting a new node between
+     * {@code parent} and {@code child}. Returns the new node.
+     */
+    private static <V> Node<V> split(Node<V> parent, Node<V> child, int length) {
+        Node<V> middle = new Node<>(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * Absorbs the only child of {@code node} into it if {@code node} holds no values, so that the tree stays
+     * compressed after a removal.
+     */
+    private static <V> void mergeWithOnlyChild(Node<V> node) {
+        if (!node.values.isEmpty() || node.children.size() != 1) {
+            return;
+        }
+        Node<V> child = node.children.values().iterator().next();
+        node.label = node.label + child.label;
+        node.values.addAll(child.values);
+        node.children.clear();
+        node.children.putAll(child.children);
+    }
+
+    private static int commonPrefixLength(String label, String key, int keyOffset) {
+        int length = Math.min(label.length(), key.length() - keyOffset);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(keyOffset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * A node whose label is the part of the key spelled on the edge from its parent.
+     */
+    private static final class Node<V> {
+        private String label;
+        private final Set<V> values = new LinkedHashSet<>();
+        private final TreeMap<Character, Node<V>> children = new TreeMap<>();
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.commons.util;
+
+/**
+ * A case-insensitive index from string keys to the values filed under them.
+ * Implementations differ in the lookups they answer, such as by prefix, by substring or by edit distance.
+ *
+ * @param <V> type of the values filed under the keys.
+ */
+public interface StringKeyIndex<V> {
+
+    /**
+     * Files {@code value} under {@code key}.
+     */
+    void add(String key, V value);
+
+    /**
+     * Removes {@code value} from under {@code key}, if it is filed there.
+     */
+    void remove(String key, V value);
+
+    /**
+     * Removes every key and value.
+     */
+    void clear();
+}
@@ -6,13 +6,16 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
-import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    // the Soundex digit of each letter from a to z, with 0 for the vowels and h, w and y
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+    private static final int SOUNDEX_LENGTH = 4;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -42,6 +45,7 @@ public class StringUtil {
     /**
      * Returns true if the {@code sentence} contains the {@code substring} while ignoring case.
      * Leading and trailing whitespace in {@code substring} is ignored.
+     * Compares the strings in place, without building case-folded copies of them.
      *
      * @param sentence cannot be null
      * @param substring cannot be null and cannot be empty after trimming
@@ -53,10 +57,13 @@ public class StringUtil {
         String preppedSubstring = substring.trim();
         checkArgument(!preppedSubstring.isEmpty(), "Substring parameter cannot be empty");
 
-        String lowerCaseSentence = sentence.toLowerCase(Locale.ROOT);
-        String lowerCaseSubstring = preppedSubstring.toLowerCase(Locale.ROOT);
-
-        return lowerCaseSentence.contains(lowerCaseSubstring);
+        int lastStart = sentence.length() - preppedSubstring.length();
+        for (int start = 0; start <= lastStart; start++) {
+            if (sentence.regionMatches(true, start, preppedSubstring, 0, preppedSubstring.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -69,6 +76,101 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns {@code s} with every character case-folded, so that two strings are equal after folding exactly when
+     * they are equal by {@link String#equalsIgnoreCase(String)}. Useful as a key for case-insensitive hashing.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        StringBuilder folded = new StringBuilder(s.length());
+        s.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the fewest single-character
+     * insertions, deletions and substitutions that turn one into the other. Case-sensitive.
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Returns the Soundex code of {@code word}, e.g. "L000" for both "Lee" and "Li", so that words that sound alike
+     * share a code. Only ASCII letters are coded, ignoring case, and an empty string is returned if there are none.
+     * A final "ng" is coded as "n", so that romanised names such as "Tan" and "Tang" share a code too.
+     */
+    public static String phoneticCode(String word) {
+        requireNonNull(word);
+        StringBuilder letters = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = Character.toLowerCase(word.charAt(i));
+            if (c >= 'a' && c <= 'z') {
+                letters.append(c);
+            }
+        }
+        int length = letters.length();
+        if (length > 2 && letters.charAt(length - 2) == 'n' && letters.charAt(length - 1) == 'g') {
+            letters.setLength(length - 1);
+        }
+        if (letters.length() == 0) {
+            return "";
+        }
+
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        code.append(Character.toUpperCase(letters.charAt(0)));
+        char previousDigit = SOUNDEX_DIGITS.charAt(letters.charAt(0) - 'a');
+        for (int i = 1; i < letters.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'a');
+            if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            // h and w do not separate consonants with the same digit, but vowels do
+            if (letter != 'h' && letter != 'w') {
+                previousDigit = digit;
+            }
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, i.e. matches the regex {@code \d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, i.e. matches the regex {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A case-insensitive index from string keys to the values filed under them, for looking up the keys that contain a
+ * substring.
+ * Keys are case-folded with {@link StringUtil#foldCase(String)} once, when they are added, and every run of three
+ * characters (trigram) of a key points back to it. A substring of at least three characters can only occur in the
+ * keys that contain all of its trigrams, so a lookup intersects their sets, smallest first, and checks the
+ * substring against those candidates alone. Shorter substrings have no trigrams and are checked against every key.
+ *
+ * @param <V> type of the values filed under the keys.
+ */
+public class TrigramIndex<V> implements StringKeyIndex<V> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<V>> valuesByKey = new HashMap<>();
+    private final Map<String, Set<String>> keysByTrigram = new HashMap<>();
+
+    @Override
+    public void add(String key, V value) {
+        requireNonNull(value);
+        String foldedKey = StringUtil.foldCase(key);
+        Set<V> values = valuesByKey.get(foldedKey);
+        if (values == null) {
+            values = new LinkedHashSet<>();
+            valuesByKey.put(foldedKey, values);
+            for (String trigram : trigramsOf(foldedKey)) {
+                keysByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(foldedKey);
+            }
+        }
+        values.add(value);
+    }
+
+    @Override
+    public void remove(String key, V value) {
+        requireNonNull(value);
+        String foldedKey = StringUtil.foldCase(key);
+        Set<V> values = valuesByKey.get(foldedKey);
+        if (values == null || !values.remove(value) || !values.isEmpty()) {
+            return;
+        }
+
+        valuesByKey.remove(foldedKey);
+        for (String trigram : trigramsOf(foldedKey)) {
+            Set<String> keys = keysByTrigram.get(trigram);
+            keys.remove(foldedKey);
+            if (keys.isEmpty()) {
+                keysByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        valuesByKey.clear();
+        keysByTrigram.clear();
+    }
+
+    /**
+     * Returns the distinct values filed under a key that contains {@code substring}, ignoring case.
+     */
+    public List<V> getValuesContaining(String substring) {
+        String foldedSubstring = StringUtil.foldCase(substring);
+        Set<V> found = new LinkedHashSet<>();
+        for (String key : getCandidateKeys(foldedSubstring)) {
+            if (key.contains(foldedSubstring)) {
+                found.addAll(valuesByKey.get(key));
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Returns the keys that contain every trigram of {@code foldedSubstring}, or every key if it has none.
+     */
+    private Set<String> getCandidateKeys(String foldedSubstring) {
+        Set<String> trigrams = trigramsOf(foldedSubstring);
+        if (trigrams.isEmpty()) {
+            return valuesByKey.keySet();
+        }
+
+        List<Set<String>> postings = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<String> keys = keysByTrigram.get(trigram);
+            if (keys == null) {
+                return Set.of();
+            }
+            postings.add(keys);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code foldedString}.
+     */
+    private static Set<String> trigramsOf(String foldedString) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= foldedString.length(); start++) {
+            trigrams.add(foldedString.substring(start, start + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -23,6 +23,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns {@code commandText} with the name, Telegram username, session or {@code find} keyword being typed at
+     * its end completed from the persons in the address book, or unchanged if there is nothing to complete.
+     *
+     * @see seedu.address.logic.parser.CommandAutocompleter#complete(String)
+     */
+    String autocomplete(String commandText);
+
     /**
      * Returns the AddressBook.
      *
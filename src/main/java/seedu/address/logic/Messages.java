@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Page;
 import seedu.address.model.person.Person;
 
 /**
@@ -16,6 +17,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_PAGE_OVERVIEW = "Showing page %1$d of %2$d (%3$d persons per page).";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -31,6 +33,13 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns a message describing which {@code page} of the {@code personCount} persons listed is shown.
+     */
+    public static String formatPage(Page page, int personCount) {
+        return String.format(MESSAGE_PAGE_OVERVIEW, page.getNumber(), page.getPageCount(personCount), page.getSize());
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -65,11 +65,12 @@ public class DeleteCommand extends Command {
                 continue;
             }
 
-            personsToDelete.addAll(mapNameToPersons(selector.getName(), lastShownList));
+            personsToDelete.add(mapNameToPerson(selector.getName(), model));
         }
 
         Set<Person> uniquePersonsToDelete = new LinkedHashSet<>(personsToDelete);
-        uniquePersonsToDelete.forEach(model::deletePerson);
+        model.deletePersons(uniquePersonsToDelete);
+        model.commitAddressBook();
         return new CommandResult(buildSuccessMessage(uniquePersonsToDelete));
     }
 
@@ -102,16 +103,14 @@ public class DeleteCommand extends Command {
         return lastShownList.get(targetIndex.getZeroBased());
     }
 
-    private Collection<Person> mapNameToPersons(Name name, List<Person> lastShownList) throws CommandException {
-        List<Person> matchedPersons = lastShownList.stream()
-                .filter(person -> person.getName().equals(name))
-                .collect(Collectors.toList());
-
-        if (matchedPersons.isEmpty()) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND_BY_NAME, name));
-        }
-
-        return matchedPersons;
+    /**
+     * Returns the displayed person with the given {@code name}. The name is looked up in the address book, and the
+     * person found is then checked to be displayed, so the displayed list is never scanned.
+     */
+    private Person mapNameToPerson(Name name, Model model) throws CommandException {
+        return model.getPersonWithName(name)
+                .filter(model::isDisplayed)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND_BY_NAME, name)));
     }
 
     private String buildSuccessMessage(Collection<Person> personsToDelete) {
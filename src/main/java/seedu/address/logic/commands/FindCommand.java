@@ -1,37 +1,138 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.Page;
+import seedu.address.model.Query;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, who match
+ * all of the argument fields, or who satisfy a boolean query over fields.
+ * Keyword matching is case insensitive. A fuzzy find also matches misspelt keywords and lists the closest
+ * matches first, and a phonetic find matches words that sound like the keywords. A substring find matches the
+ * keywords anywhere in a name, email or Telegram username.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String FUZZY_MARKER = "~";
+    public static final String PHONETIC_MARKER = "?";
+    public static final String SUBSTRING_MARKER = "%";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "A keyword ending with * matches every word starting with it.\n"
+            + "Start with " + FUZZY_MARKER + " to also match words a few letters off, closest matches first, or with "
+            + PHONETIC_MARKER + " to match words that sound alike.\n"
+            + "Start with " + SUBSTRING_MARKER + " to match the keywords anywhere in a name, email or Telegram "
+            + "username.\n"
+            + "Parameters: [" + FUZZY_MARKER + "|" + PHONETIC_MARKER + "|" + SUBSTRING_MARKER
+            + "]KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie ale*\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_MARKER + "alx yoeh\n"
+            + "Example: " + COMMAND_WORD + " " + PHONETIC_MARKER + "lee tang\n"
+            + "Example: " + COMMAND_WORD + " " + SUBSTRING_MARKER + "oli @u.nus.edu\n"
+            + "Alternatively, finds all persons matching every field given, and any of the values given for a field.\n"
+            + "Parameters: [" + PREFIX_NAME + "KEYWORDS]... [" + PREFIX_PHONE + "PHONE]... [" + PREFIX_EMAIL
+            + "EMAIL]... [" + PREFIX_TYPE + "TYPE]... [" + PREFIX_SESSION + "SESSION]... [" + PREFIX_TELEGRAM
+            + "TELEGRAM]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TYPE + "TA " + PREFIX_SESSION + "G17 " + PREFIX_NAME + "Tan\n"
+            + "Fields can also be combined with and, or, not and parentheses.\n"
+            + "Example: " + COMMAND_WORD + " (" + PREFIX_SESSION + "G17 or " + PREFIX_SESSION + "G18) and "
+            + PREFIX_TYPE + "student and not " + PREFIX_NAME + "Tan\n"
+            + "Any find can end with [" + PREFIX_PAGE + " PAGE] [" + PREFIX_PAGE_SIZE + " SIZE] to show one page of "
+            + "the persons found.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TYPE + "student " + PREFIX_PAGE + " 2 " + PREFIX_PAGE_SIZE
+            + " 50\n"
+            + "Any find can also end with [" + PREFIX_LIMIT + " LIMIT] to list only the first LIMIT persons found.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TYPE + "student " + PREFIX_SESSION + "G17 " + PREFIX_LIMIT
+            + " 20";
+
+    private final Predicate<Person> predicate;
+    private final Comparator<Person> ranking;
+    private final Query query;
+    private final Page page;
+    private final int limit;
+
+    /**
+     * Creates a FindCommand that lists the persons matching {@code predicate} in address book order.
+     */
+    public FindCommand(Predicate<Person> predicate) {
+        this(predicate, null, null, Page.ALL, Model.NO_LIMIT);
+    }
 
-    private final NameContainsKeywordsPredicate predicate;
+    /**
+     * Creates a FindCommand that lists the persons matching {@code predicate}, closest matches first.
+     */
+    public FindCommand(NameFuzzyMatchPredicate predicate) {
+        this(predicate, predicate.getRanking(), null, Page.ALL, Model.NO_LIMIT);
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons satisfying {@code query} in address book order.
+     * The query is compiled against the address book when the command is executed.
+     */
+    public FindCommand(Query query) {
+        this(null, null, requireNonNull(query), Page.ALL, Model.NO_LIMIT);
+    }
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    private FindCommand(Predicate<Person> predicate, Comparator<Person> ranking, Query query, Page page,
+            int limit) {
         this.predicate = predicate;
+        this.ranking = ranking;
+        this.query = query;
+        this.page = page;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a FindCommand that finds the same persons as this one, but shows only {@code page} of them.
+     */
+    public FindCommand withPage(Page page) {
+        requireNonNull(page);
+        return new FindCommand(predicate, ranking, query, page, limit);
+    }
+
+    /**
+     * Returns a FindCommand that finds the same persons as this one, but lists only the first {@code limit} of them.
+     */
+    public FindCommand withLimit(int limit) {
+        return new FindCommand(predicate, ranking, query, page, limit);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        if (query != null) {
+            model.updateFilteredPersonList(model.compileQuery(query), limit, page);
+        } else if (ranking == null) {
+            model.updateFilteredPersonList(predicate, limit, page);
+        } else {
+            model.updateFilteredPersonList(predicate, ranking, limit, page);
+        }
+        String overview = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonCount());
+        if (page.equals(Page.ALL)) {
+            return new CommandResult(overview);
+        }
+        return new CommandResult(overview + "\n" + Messages.formatPage(page, model.getFilteredPersonCount()));
     }
 
     @Override
@@ -45,14 +146,25 @@ public class FindCommand extends Command {
             return false;
         }
 
+        // the ranking is derived from the predicate
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(query, otherFindCommand.query)
+                && page.equals(otherFindCommand.page)
+                && limit == otherFindCommand.limit;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
-                .add("predicate", predicate)
-                .toString();
+        ToStringBuilder builder = query != null
+                ? new ToStringBuilder(this).add("query", query)
+                : new ToStringBuilder(this).add("predicate", predicate);
+        if (!page.equals(Page.ALL)) {
+            builder.add("page", page);
+        }
+        if (limit != Model.NO_LIMIT) {
+            builder.add("limit", limit);
+        }
+        return builder.toString();
     }
 }
@@ -1,24 +1,93 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE_SIZE;
+import static seedu.address.model.Model.NO_LIMIT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, or only the first few, optionally one page at a time.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons, or one page of them, or only "
+            + "the first LIMIT of them.\n"
+            + "Parameters: [" + PREFIX_PAGE + " PAGE] [" + PREFIX_PAGE_SIZE + " SIZE] [" + PREFIX_LIMIT + " LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PAGE + " 3 " + PREFIX_PAGE_SIZE + " 200\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_LIMIT + " 20";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
+    public static final String MESSAGE_LIMITED_SUCCESS = "Listed the first %1$d persons";
+
+    private final Page page;
+    private final int limit;
+
+    /**
+     * Creates a ListCommand that lists every person on one page.
+     */
+    public ListCommand() {
+        this(Page.ALL);
+    }
 
+    /**
+     * Creates a ListCommand that lists the persons on {@code page}.
+     */
+    public ListCommand(Page page) {
+        this(page, NO_LIMIT);
+    }
+
+    /**
+     * Creates a ListCommand that lists only the first {@code limit} persons, in the current order, on {@code page}.
+     */
+    public ListCommand(Page page, int limit) {
+        requireNonNull(page);
+        this.page = page;
+        this.limit = limit;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, limit, page);
+        String message = limit == NO_LIMIT
+                ? MESSAGE_SUCCESS
+                : String.format(MESSAGE_LIMITED_SUCCESS, model.getFilteredPersonCount());
+        if (page.equals(Page.ALL)) {
+            return new CommandResult(message);
+        }
+        return new CommandResult(message + "\n" + Messages.formatPage(page, model.getFilteredPersonCount()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return page.equals(otherListCommand.page) && limit == otherListCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(this).add("page", page);
+        if (limit != NO_LIMIT) {
+            builder.add("limit", limit);
+        }
+        return builder.toString();
     }
 }
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.model.Model.NO_LIMIT;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.SortKey;
+
+/**
+ * Sorts the listed persons by one or more fields, or restores the order they were added in, optionally keeping only
+ * the first few listed. The order is kept for later {@code find} and {@code list} commands.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed persons by the given fields, "
+            + "each breaking ties in the one before, and keeps that order for later lists. "
+            + "Without fields, restores the order persons were added in.\n"
+            + "With " + PREFIX_LIMIT + ", keeps only the first LIMIT persons listed.\n"
+            + "Parameters: [FIELD (name, session or type)]... [" + PREFIX_LIMIT + " LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " session name\n"
+            + "Example: " + COMMAND_WORD + " name " + PREFIX_LIMIT + " 20";
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+    public static final String MESSAGE_RESET_SUCCESS = "Listed persons in the order they were added";
+
+    private final List<SortKey> keys;
+    private final int limit;
+
+    /**
+     * Creates a SortCommand that sorts by {@code keys} in turn, or restores address book order if there are none.
+     */
+    public SortCommand(List<SortKey> keys) {
+        this(keys, NO_LIMIT);
+    }
+
+    /**
+     * Creates a SortCommand that sorts as {@link #SortCommand(List)} does, then keeps only the first {@code limit}
+     * persons listed.
+     */
+    public SortCommand(List<SortKey> keys, int limit) {
+        requireNonNull(keys);
+        this.keys = List.copyOf(keys);
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String message;
+        if (keys.isEmpty()) {
+            model.sortFilteredPersonList(null, limit);
+            message = MESSAGE_RESET_SUCCESS;
+        } else {
+            model.sortFilteredPersonList(SortKey.comparing(keys), limit);
+            message = String.format(MESSAGE_SUCCESS,
+                    keys.stream().map(SortKey::toString).collect(Collectors.joining(", ")));
+        }
+        if (limit == NO_LIMIT) {
+            return new CommandResult(message);
+        }
+        return new CommandResult(message + "\n"
+                + String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonCount()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return keys.equals(otherSortCommand.keys) && limit == otherSortCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(this).add("keys", keys);
+        if (limit != NO_LIMIT) {
+            builder.add("limit", limit);
+        }
+        return builder.toString();
+    }
+}
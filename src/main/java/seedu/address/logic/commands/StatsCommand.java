@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+import seedu.address.model.Model;
+import seedu.address.model.RosterStatistics;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
+
+/**
+ * Reports how many persons there are of each type and in each session, the students-to-TA ratio of each session,
+ * and how many persons have no Telegram username.
+ * The counts are kept up to date by the address book, so reporting them does not scan the persons.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons: %2$d students, %3$d TAs, %4$d instructors, "
+            + "%5$d staff";
+    public static final String MESSAGE_MISSING_TELEGRAM = "%1$d persons without a Telegram username";
+    public static final String MESSAGE_SESSION = "Session %1$s: %2$d persons, %3$d students, %4$d TAs, %5$s";
+    public static final String MESSAGE_RATIO = "%1$.1f students per TA";
+    public static final String MESSAGE_NO_TA = "no TA";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        RosterStatistics statistics = model.getStatistics();
+        StringJoiner report = new StringJoiner("\n");
+        report.add(String.format(MESSAGE_SUCCESS, statistics.getPersonCount(), statistics.getCount(Type.STUDENT),
+                statistics.getCount(Type.TA), statistics.getCount(Type.INSTRUCTOR), statistics.getCount(Type.STAFF)));
+        report.add(String.format(MESSAGE_MISSING_TELEGRAM, statistics.getMissingTelegramUsernameCount()));
+        for (Session session : statistics.getSessions()) {
+            int studentCount = statistics.getCount(session, Type.STUDENT);
+            int taCount = statistics.getCount(session, Type.TA);
+            String ratio = taCount == 0
+                    ? MESSAGE_NO_TA
+                    : String.format(Locale.ROOT, MESSAGE_RATIO, (double) studentCount / taCount);
+            report.add(String.format(MESSAGE_SESSION, session, statistics.getCount(session), studentCount, taCount,
+                    ratio));
+        }
+        return new CommandResult(report.toString());
+    }
+}
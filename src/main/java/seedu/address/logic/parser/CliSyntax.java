@@ -13,4 +13,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_SESSION = new Prefix("s/");
     public static final Prefix PREFIX_TELEGRAM = new Prefix("u/");
 
+    /* Option definitions */
+    public static final Prefix PREFIX_PAGE = new Prefix("--page");
+    public static final Prefix PREFIX_PAGE_SIZE = new Prefix("--size");
+    public static final Prefix PREFIX_LIMIT = new Prefix("--limit");
+
 }
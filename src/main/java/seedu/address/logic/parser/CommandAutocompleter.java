@@ -0,0 +1,152 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TelegramUsername;
+
+/**
+ * Completes the value being typed at the end of a partial command from the persons in an address book.
+ * Completes names after {@code n/}, Telegram usernames after {@code u/}, sessions after {@code s/}, and the last
+ * keyword of a {@code find} command to a word of a name.
+ * Candidates are looked up through the address book's prefix indexes, so completion does not scan the roster.
+ */
+public class CommandAutocompleter {
+
+    private static final List<Prefix> ALL_PREFIXES =
+            List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TYPE, PREFIX_SESSION, PREFIX_TELEGRAM);
+
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandAutocompleter} that completes values from the persons in {@code model}.
+     */
+    public CommandAutocompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns {@code commandText} with the value at its end extended for as long as all matching values agree,
+     * ignoring case, and written in the case of the first matching value.
+     * If exactly one value matches, it is completed in full and followed by a space.
+     * Returns {@code commandText} unchanged if there is nothing to complete.
+     */
+    public String complete(String commandText) {
+        requireNonNull(commandText);
+        int lastPrefixStart = -1;
+        Prefix lastPrefix = null;
+        for (Prefix prefix : ALL_PREFIXES) {
+            int prefixStart = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (prefixStart > lastPrefixStart) {
+                lastPrefixStart = prefixStart;
+                lastPrefix = prefix;
+            }
+        }
+
+        if (lastPrefix != null) {
+            int valueStart = lastPrefixStart + 1 + lastPrefix.getPrefix().length();
+            String value = commandText.substring(valueStart);
+            return complete(commandText, valueStart, getFieldCandidates(lastPrefix, value));
+        } else if (isFindCommand(commandText)) {
+            int valueStart = commandText.lastIndexOf(' ') + 1;
+            String value = commandText.substring(valueStart);
+            return complete(commandText, valueStart, getNameWordCandidates(value));
+        }
+        return commandText;
+    }
+
+    private static String complete(String commandText, int valueStart, List<String> candidates) {
+        if (candidates.isEmpty()) {
+            return commandText;
+        }
+        String completion = candidates.get(0);
+        for (String candidate : candidates) {
+            completion = completion.substring(0, commonPrefixLengthIgnoreCase(completion, candidate));
+        }
+        return commandText.substring(0, valueStart) + completion + (candidates.size() == 1 ? " " : "");
+    }
+
+    /**
+     * Returns the values of the field introduced by {@code prefix} that start with {@code value}, ignoring case.
+     */
+    private List<String> getFieldCandidates(Prefix prefix, String value) {
+        if (value.isEmpty()) {
+            return List.of();
+        } else if (prefix.equals(PREFIX_NAME)) {
+            return filterCandidates(model.getPersonsWithNamePrefix(value), value,
+                    person -> List.of(person.getName().fullName));
+        } else if (prefix.equals(PREFIX_SESSION)) {
+            return filterCandidates(model.getPersonsWithSessionPrefix(value), value,
+                    person -> person.getSession().map(session -> List.of(session.value)).orElse(List.of()));
+        } else if (prefix.equals(PREFIX_TELEGRAM)) {
+            // completes in the same form as typed, with or without the leading "@"
+            boolean hasAtSign = value.startsWith("@");
+            return filterCandidates(model.getPersonsWithTelegramUsernamePrefix(value), value,
+                    person -> person.getTelegramUsername()
+                            .map(username -> List.of(hasAtSign
+                                    ? username.value
+                                    : TelegramUsername.withoutAtSign(username.value)))
+                            .orElse(List.of()));
+        }
+        return List.of();
+    }
+
+    /**
+     * Returns the words of names that start with {@code value}, ignoring case.
+     */
+    private List<String> getNameWordCandidates(String value) {
+        if (value.isEmpty() || value.endsWith(NameContainsKeywordsPredicate.PREFIX_WILDCARD)) {
+            return List.of();
+        }
+        return filterCandidates(model.getPersonsWithNamePrefix(value), value,
+                person -> List.of(person.getName().fullName.split(" ")));
+    }
+
+    private static boolean isFindCommand(String commandText) {
+        String[] words = commandText.stripLeading().split("\\s+", 2);
+        return words.length == 2 && words[0].equals(FindCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Returns the distinct values of {@code persons}, as given by {@code valuesOf}, that start with {@code value},
+     * ignoring case. Values that differ only in case are returned once, in the form first found.
+     */
+    private static List<String> filterCandidates(List<Person> persons, String value,
+            Function<Person, List<String>> valuesOf) {
+        Map<String, String> candidatesByFoldedValue = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (String candidate : valuesOf.apply(person)) {
+                if (candidate.regionMatches(true, 0, value, 0, value.length())) {
+                    candidatesByFoldedValue.putIfAbsent(StringUtil.foldCase(candidate), candidate);
+                }
+            }
+        }
+        return new ArrayList<>(candidatesByFoldedValue.values());
+    }
+
+    private static int commonPrefixLengthIgnoreCase(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        int common = 0;
+        while (common < length && first.regionMatches(true, common, second, common, 1)) {
+            common++;
+        }
+        return common;
+    }
+}
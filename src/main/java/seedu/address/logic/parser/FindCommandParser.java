@@ -1,33 +1,164 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AllMatchPredicate;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Page;
+import seedu.address.model.person.ContainsSubstringPredicate;
+import seedu.address.model.person.FieldMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NamePhoneticMatchPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Prefix[] CRITERIA_PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TYPE, PREFIX_SESSION, PREFIX_TELEGRAM
+    };
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap optionMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PAGE, PREFIX_PAGE_SIZE, PREFIX_LIMIT);
+        Page page = ParserUtil.parsePage(optionMultimap);
+        int limit = ParserUtil.parseLimit(optionMultimap);
+        return parseFilter(" " + optionMultimap.getPreamble()).withPage(page).withLimit(limit);
+    }
+
+    /**
+     * Parses the arguments before any paging or limit options into a FindCommand that lists every person found.
+     */
+    private static FindCommand parseFilter(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (FindQueryParser.isQuery(trimmedArgs)) {
+            return new FindCommand(FindQueryParser.parse(trimmedArgs));
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CRITERIA_PREFIXES);
+        if (Arrays.stream(CRITERIA_PREFIXES).anyMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            return parseCriteria(argMultimap);
+        }
+
+        if (trimmedArgs.startsWith(FindCommand.FUZZY_MARKER)) {
+            return new FindCommand(new NameFuzzyMatchPredicate(
+                    parseMarkedKeywords(trimmedArgs, FindCommand.FUZZY_MARKER)));
+        }
+
+        if (trimmedArgs.startsWith(FindCommand.PHONETIC_MARKER)) {
+            return new FindCommand(new NamePhoneticMatchPredicate(
+                    parseMarkedKeywords(trimmedArgs, FindCommand.PHONETIC_MARKER)));
+        }
+
+        if (trimmedArgs.startsWith(FindCommand.SUBSTRING_MARKER)) {
+            return new FindCommand(new ContainsSubstringPredicate(
+                    parseMarkedKeywords(trimmedArgs, FindCommand.SUBSTRING_MARKER)));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Returns the keywords in {@code trimmedArgs} after the leading {@code marker}.
+     * @throws ParseException if there are no keywords after the marker
+     */
+    private static List<String> parseMarkedKeywords(String trimmedArgs, String marker) throws ParseException {
+        String keywords = trimmedArgs.substring(marker.length()).trim();
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Arrays.asList(keywords.split("\\s+"));
+    }
+
+    /**
+     * Parses the field criteria in {@code argMultimap} into a FindCommand that lists the persons matching all of
+     * the fields given, and any of the values given for each field.
+     */
+    private static FindCommand parseCriteria(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        List<IndexedPredicate> criteria = new ArrayList<>();
+        List<String> nameKeywords = new ArrayList<>();
+        for (String nameValue : argMultimap.getAllValues(PREFIX_NAME)) {
+            if (nameValue.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            nameKeywords.addAll(Arrays.asList(nameValue.split("\\s+")));
+        }
+        if (!nameKeywords.isEmpty()) {
+            criteria.add(new NameContainsKeywordsPredicate(nameKeywords));
+        }
+
+        addFieldCriterion(criteria, argMultimap.getAllValues(PREFIX_PHONE), ParserUtil::parsePhone,
+                FieldMatchesPredicate::ofPhones);
+        addFieldCriterion(criteria, argMultimap.getAllValues(PREFIX_EMAIL), ParserUtil::parseEmail,
+                FieldMatchesPredicate::ofEmails);
+        addFieldCriterion(criteria, argMultimap.getAllValues(PREFIX_TYPE), ParserUtil::parseType,
+                FieldMatchesPredicate::ofTypes);
+        addFieldCriterion(criteria, argMultimap.getAllValues(PREFIX_SESSION), ParserUtil::parseSession,
+                FieldMatchesPredicate::ofSessions);
+        addFieldCriterion(criteria, argMultimap.getAllValues(PREFIX_TELEGRAM), ParserUtil::parseTelegramUsername,
+                FieldMatchesPredicate::ofTelegramUsernames);
+
+        return new FindCommand(criteria.size() == 1 ? criteria.get(0) : new AllMatchPredicate(criteria));
+    }
+
+    /**
+     * Parses {@code values} with {@code parser} and, if there are any, adds the criterion that a person matches any
+     * of them to {@code criteria}.
+     */
+    private static <T> void addFieldCriterion(List<IndexedPredicate> criteria, List<String> values,
+            ValueParser<T> parser, Function<List<T>, IndexedPredicate> criterionFactory) throws ParseException {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<T> parsedValues = new ArrayList<>();
+        for (String value : values) {
+            parsedValues.add(parser.parse(value));
+        }
+        criteria.add(criterionFactory.apply(parsedValues));
+    }
+
+    /**
+     * Represents a function that parses a field value.
+     */
+    @FunctionalInterface
+    private interface ValueParser<T> {
+        T parse(String value) throws ParseException;
+    }
+
 }
@@ -0,0 +1,228 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Query;
+import seedu.address.model.person.FieldMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Parses the arguments of a find command written as a boolean query over fields, e.g.
+ * {@code (s/G17 or s/G18) and t/student and not n/Tan}, into a simplified {@code Query}.
+ * <pre>
+ * query   := and ("or" and)*
+ * and     := not ("and" not)*
+ * not     := "not" not | primary
+ * primary := "(" query ")" | PREFIX VALUE
+ * </pre>
+ * Operators are case-insensitive. A value runs until the next operator, parenthesis or prefix. Clauses must be
+ * joined by an operator: field mode reads {@code n/alex n/bernice} as either name, so the same words are rejected
+ * here rather than read as both. A word of a value starting with {@value #ESCAPE} is read literally without it,
+ * so that {@code n/Tan \or} finds persons named {@code Tan} or {@code or}.
+ */
+public class FindQueryParser {
+
+    public static final String OPERATOR_AND = "and";
+    public static final String OPERATOR_OR = "or";
+    public static final String OPERATOR_NOT = "not";
+    public static final String ESCAPE = "\\";
+
+    public static final String MESSAGE_MISSING_OPERATOR =
+            "Join the details of a query with \"and\" or \"or\", e.g. n/alex or n/bernice";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private static final Prefix[] FIELD_PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TYPE, PREFIX_SESSION, PREFIX_TELEGRAM
+    };
+
+    private final List<String> tokens;
+    private int position;
+
+    private FindQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns true if {@code args} uses query syntax: a field prefix together with a parenthesis, an operator or an
+     * escaped word. Other arguments are parsed as plain keywords or fields by {@code FindCommandParser}.
+     */
+    public static boolean isQuery(String args) {
+        List<String> tokens = tokenize(args);
+        return tokens.stream().anyMatch(token -> findPrefix(token).isPresent())
+                && tokens.stream().anyMatch(token -> isParenthesis(token) || isOperator(token) || isEscaped(token));
+    }
+
+    /**
+     * Parses {@code args} into a simplified query.
+     * @throws ParseException if {@code args} is not a well-formed query or has an invalid field value
+     */
+    public static Query parse(String args) throws ParseException {
+        FindQueryParser parser = new FindQueryParser(tokenize(args));
+        Query query = parser.parseDisjunction();
+        if (parser.hasNext()) {
+            throw invalidFormat();
+        }
+        return query.simplify();
+    }
+
+    private Query parseDisjunction() throws ParseException {
+        List<Query> clauses = new ArrayList<>();
+        clauses.add(parseConjunction());
+        while (accept(OPERATOR_OR)) {
+            clauses.add(parseConjunction());
+        }
+        return clauses.size() == 1 ? clauses.get(0) : Query.or(clauses);
+    }
+
+    private Query parseConjunction() throws ParseException {
+        List<Query> clauses = new ArrayList<>();
+        clauses.add(parseNegation());
+        while (accept(OPERATOR_AND)) {
+            clauses.add(parseNegation());
+        }
+        if (hasNext() && startsClause(peek())) {
+            throw new ParseException(MESSAGE_MISSING_OPERATOR);
+        }
+        return clauses.size() == 1 ? clauses.get(0) : Query.and(clauses);
+    }
+
+    private Query parseNegation() throws ParseException {
+        if (accept(OPERATOR_NOT)) {
+            return Query.not(parseNegation());
+        }
+        return parsePrimary();
+    }
+
+    private Query parsePrimary() throws ParseException {
+        if (accept(OPEN_PARENTHESIS)) {
+            Query query = parseDisjunction();
+            if (!accept(CLOSE_PARENTHESIS)) {
+                throw invalidFormat();
+            }
+            return query;
+        }
+
+        Optional<Prefix> prefix = hasNext() ? findPrefix(peek()) : Optional.empty();
+        if (prefix.isEmpty()) {
+            throw invalidFormat();
+        }
+        List<String> words = new ArrayList<>();
+        String firstWord = next().substring(prefix.get().getPrefix().length());
+        if (!firstWord.isEmpty()) {
+            words.add(unescape(firstWord));
+        }
+        while (hasNext() && !isParenthesis(peek()) && !isOperator(peek()) && findPrefix(peek()).isEmpty()) {
+            words.add(unescape(next()));
+        }
+        if (words.isEmpty()) {
+            throw invalidFormat();
+        }
+        return Query.of(parseCriterion(prefix.get(), words));
+    }
+
+    /**
+     * Parses the value given for {@code prefix}, split into {@code words}, into the criterion it stands for.
+     */
+    private static IndexedPredicate parseCriterion(Prefix prefix, List<String> words) throws ParseException {
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(words);
+        }
+
+        String value = String.join(" ", words);
+        if (prefix.equals(PREFIX_PHONE)) {
+            return FieldMatchesPredicate.ofPhones(List.of(ParserUtil.parsePhone(value)));
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return FieldMatchesPredicate.ofEmails(List.of(ParserUtil.parseEmail(value)));
+        } else if (prefix.equals(PREFIX_TYPE)) {
+            return FieldMatchesPredicate.ofTypes(List.of(ParserUtil.parseType(value)));
+        } else if (prefix.equals(PREFIX_SESSION)) {
+            return FieldMatchesPredicate.ofSessions(List.of(ParserUtil.parseSession(value)));
+        } else {
+            return FieldMatchesPredicate.ofTelegramUsernames(List.of(ParserUtil.parseTelegramUsername(value)));
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private String next() {
+        return tokens.get(position++);
+    }
+
+    /**
+     * Consumes the next token if it is {@code expected}, ignoring case, and returns whether it did.
+     */
+    private boolean accept(String expected) {
+        if (hasNext() && peek().equalsIgnoreCase(expected)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Splits {@code args} into words and parentheses.
+     */
+    private static List<String> tokenize(String args) {
+        String spaced = args.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ")
+                .trim();
+        return spaced.isEmpty() ? List.of() : Arrays.asList(spaced.split("\\s+"));
+    }
+
+    private static Optional<Prefix> findPrefix(String token) {
+        return Arrays.stream(FIELD_PREFIXES).filter(prefix -> token.startsWith(prefix.getPrefix())).findFirst();
+    }
+
+    /**
+     * Returns true if {@code token} can only begin a clause, and so cannot follow a clause without an operator.
+     */
+    private static boolean startsClause(String token) {
+        return token.equals(OPEN_PARENTHESIS) || token.equalsIgnoreCase(OPERATOR_NOT) || findPrefix(token).isPresent();
+    }
+
+    /**
+     * Returns {@code word} without its leading {@value #ESCAPE}, if it has one.
+     */
+    private static String unescape(String word) {
+        return isEscaped(word) ? word.substring(ESCAPE.length()) : word;
+    }
+
+    private static boolean isEscaped(String word) {
+        return word.startsWith(ESCAPE) && word.length() > ESCAPE.length();
+    }
+
+    private static boolean isParenthesis(String token) {
+        return token.equals(OPEN_PARENTHESIS) || token.equals(CLOSE_PARENTHESIS);
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equalsIgnoreCase(OPERATOR_AND) || token.equalsIgnoreCase(OPERATOR_OR)
+                || token.equalsIgnoreCase(OPERATOR_NOT);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
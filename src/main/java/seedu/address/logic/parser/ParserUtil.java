@@ -1,14 +1,23 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE_SIZE;
+
+import java.util.Optional;
+import java.util.function.Function;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.SortKey;
 import seedu.address.model.person.TelegramUsername;
 import seedu.address.model.person.Type;
 
@@ -18,6 +27,7 @@ import seedu.address.model.person.Type;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_LIMIT = "Limit should be a positive integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -41,10 +51,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return toValue(trimmedName, Name::new, Name.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -56,10 +63,7 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return toValue(trimmedPhone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -71,10 +75,7 @@ public class ParserUtil {
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
         String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return toValue(trimmedEmail, Email::new, Email.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -86,10 +87,7 @@ public class ParserUtil {
     public static Type parseType(String type) throws ParseException {
         requireNonNull(type);
         String trimmedType = type.trim();
-        if (!Type.isValidType(trimmedType)) {
-            throw new ParseException(Type.MESSAGE_CONSTRAINTS);
-        }
-        return new Type(trimmedType);
+        return toValue(trimmedType, Type::of, Type.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -101,10 +99,7 @@ public class ParserUtil {
     public static TelegramUsername parseTelegramUsername(String username) throws ParseException {
         requireNonNull(username);
         String trimmedUsername = username.trim();
-        if (!TelegramUsername.isValidTelegramUsername(trimmedUsername)) {
-            throw new ParseException(TelegramUsername.MESSAGE_CONSTRAINTS);
-        }
-        return new TelegramUsername(trimmedUsername);
+        return toValue(trimmedUsername, TelegramUsername::new, TelegramUsername.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -116,9 +111,80 @@ public class ParserUtil {
     public static Session parseSession(String session) throws ParseException {
         requireNonNull(session);
         String trimmedSession = session.trim();
-        if (!Session.isValidSession(trimmedSession)) {
-            throw new ParseException(Session.MESSAGE_CONSTRAINTS);
+        return toValue(trimmedSession, Session::of, Session.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Parses a {@code String key} into a {@code SortKey}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code key} is invalid.
+     */
+    public static SortKey parseSortKey(String key) throws ParseException {
+        requireNonNull(key);
+        String trimmedKey = key.trim();
+        return toValue(trimmedKey, SortKey::of, SortKey.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Parses the {@code --page} and {@code --size} options in {@code argMultimap} into a {@code Page}.
+     * A missing page number defaults to the first page, and a missing size to {@link Page#DEFAULT_SIZE}.
+     * Without either option, every person is on one page.
+     *
+     * @throws ParseException if an option is repeated or its value is not a positive integer.
+     */
+    public static Page parsePage(ArgumentMultimap argMultimap) throws ParseException {
+        requireNonNull(argMultimap);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAGE, PREFIX_PAGE_SIZE);
+        Optional<String> number = argMultimap.getValue(PREFIX_PAGE);
+        Optional<String> size = argMultimap.getValue(PREFIX_PAGE_SIZE);
+        if (number.isEmpty() && size.isEmpty()) {
+            return Page.ALL;
+        }
+        return new Page(number.isPresent() ? parsePageValue(number.get()) : 1,
+                size.isPresent() ? parsePageValue(size.get()) : Page.DEFAULT_SIZE);
+    }
+
+    /**
+     * Parses the {@code --limit} option of {@code argMultimap} into the number of persons to list.
+     * Without the option, every person is listed.
+     *
+     * @throws ParseException if the option is repeated or its value is not a positive integer.
+     */
+    public static int parseLimit(ArgumentMultimap argMultimap) throws ParseException {
+        requireNonNull(argMultimap);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT);
+        Optional<String> limit = argMultimap.getValue(PREFIX_LIMIT);
+        if (limit.isEmpty()) {
+            return Model.NO_LIMIT;
+        }
+        String trimmedLimit = limit.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
+    private static int parsePageValue(String value) throws ParseException {
+        String trimmedValue = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedValue)) {
+            throw new ParseException(Page.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedValue);
+    }
+
+    /**
+     * Creates a value object from {@code value} with {@code factory}, which validates {@code value} itself.
+     * This way each value is validated exactly once instead of once here and again by its constructor.
+     *
+     * @throws ParseException with {@code messageConstraints} if {@code value} is invalid.
+     */
+    private static <T> T toValue(String value, Function<String, T> factory, String messageConstraints)
+            throws ParseException {
+        try {
+            return factory.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(messageConstraints);
         }
-        return new Session(trimmedSession);
     }
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.SortKey;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT);
+        int limit = ParserUtil.parseLimit(argMultimap);
+        String trimmedArgs = argMultimap.getPreamble().trim();
+        List<SortKey> keys = new ArrayList<>();
+        if (!trimmedArgs.isEmpty()) {
+            for (String key : trimmedArgs.split("\\s+")) {
+                SortKey sortKey = ParserUtil.parseSortKey(key);
+                if (!keys.contains(sortKey)) {
+                    keys.add(sortKey);
+                }
+            }
+        }
+        return new SortCommand(keys, limit);
+    }
+
+}
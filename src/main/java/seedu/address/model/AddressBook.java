@@ -2,21 +2,73 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BkTree;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PrefixTree;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.TrigramIndex;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.TelegramUsername;
+import seedu.address.model.person.Type;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Secondary indexes on session, type, email, phone, Telegram username, name words and their phonetic codes, an
+ * edit-distance index on name words, prefix indexes on names, Telegram usernames and sessions, and a trigram index
+ * for substrings of names, emails and Telegram usernames, are kept in sync with the person list, as are the counts
+ * behind {@link #getStatistics()}.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The number of persons from which {@link #getPersonsMatching(Predicate)} tests them in parallel. */
+    public static final int PARALLEL_SCAN_THRESHOLD = 10_000;
+
     private final UniquePersonList persons;
 
+    private final PersonIndex<Session> personsBySession = PersonIndex.ofKey(person -> person.getSession().orElse(null));
+    private final PersonIndex<Type> personsByType = PersonIndex.ofKey(Person::getType);
+    private final PersonIndex<Email> personsByEmail = PersonIndex.ofKey(Person::getEmail);
+    private final PersonIndex<Phone> personsByPhone = PersonIndex.ofKey(Person::getPhone);
+    private final PersonIndex<TelegramUsername> personsByTelegramUsername =
+            PersonIndex.ofKey(person -> person.getTelegramUsername().orElse(null));
+    private final PersonIndex<String> personsByNameWord =
+            PersonIndex.ofKeys(person -> person.getName().getCaseFoldedWords());
+    private final PersonIndex<String> personsByNamePhoneticCode =
+            PersonIndex.ofKeys(person -> person.getName().getPhoneticCodes());
+    private final PersonStringIndex<BkTree<Person>> personsByNearNameWord =
+            new PersonStringIndex<>(new BkTree<>(), person -> person.getName().getCaseFoldedWords());
+    private final PersonStringIndex<PrefixTree<Person>> personsByNamePrefix =
+            new PersonStringIndex<>(new PrefixTree<>(), person -> person.getName().getCaseFoldedWordSuffixes());
+    private final PersonStringIndex<PrefixTree<Person>> personsByTelegramUsernamePrefix =
+            new PersonStringIndex<>(new PrefixTree<>(), person -> person.getTelegramUsername()
+                    .map(username -> List.of(TelegramUsername.withoutAtSign(username.value))).orElse(List.of()));
+    private final PersonStringIndex<PrefixTree<Person>> personsBySessionPrefix =
+            new PersonStringIndex<>(new PrefixTree<>(), person -> person.getSession()
+                    .map(session -> List.of(session.value)).orElse(List.of()));
+    private final PersonStringIndex<TrigramIndex<Person>> personsBySubstring =
+            new PersonStringIndex<>(new TrigramIndex<>(), Person::getSubstringSearchableFields);
+    private final PersonCounts personCounts = new PersonCounts();
+    private final List<SecondaryIndex> indexes = List.of(personsBySession, personsByType, personsByEmail,
+            personsByPhone, personsByTelegramUsername, personsByNameWord, personsByNamePhoneticCode,
+            personsByNearNameWord, personsByNamePrefix, personsByTelegramUsernamePrefix, personsBySessionPrefix,
+            personsBySubstring, personCounts);
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -46,6 +98,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        reindex();
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, which must differ from the current contents by
+     * exactly the removal of the keys of {@code removed} and the addition of the keys of {@code added}, each mapped to
+     * its sequence number, so that only those persons are reindexed rather than every person.
+     *
+     * @see UniquePersonList#restore(PersistentList, Map, Map)
+     */
+    protected void restorePersons(PersistentList<Person> persons, Map<Person, Long> removed,
+            Map<Person, Long> added) {
+        this.persons.restore(persons, removed, added);
+        removed.keySet().forEach(this::unindex);
+        added.keySet().forEach(this::index);
     }
 
     /**
@@ -54,9 +121,22 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBookSnapshot) {
+            // shares the snapshot's structure instead of copying it
+            setPersons(((AddressBookSnapshot) newData).getPersons());
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns an immutable view of the current contents of this address book in O(1) time.
+     * Later changes to this address book are not reflected in the returned view.
+     */
+    public ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookSnapshot(persons.snapshot());
+    }
+
     //// person-level operations
 
     /**
@@ -67,12 +147,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code name}, which is matched case-sensitively, if there is one.
+     */
+    public Optional<Person> getPersonWithName(Name name) {
+        requireNonNull(name);
+        return persons.get(name);
+    }
+
+    /**
+     * Returns the position of {@code person} in the persons list, or -1 if it is not in the address book.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the sequence number of {@code person}, which must be in the address book.
+     *
+     * @see UniquePersonList#getSequenceNumber(Person)
+     */
+    protected long getSequenceNumber(Person person) {
+        return persons.getSequenceNumber(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        index(p);
     }
 
     /**
@@ -84,6 +190,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        unindex(target);
+        index(editedPerson);
     }
 
     /**
@@ -92,6 +200,210 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindex(key);
+    }
+
+    //// bulk person operations
+
+    /**
+     * Adds all of {@code toAdd} to the address book as a single change.
+     * None of the persons may already exist in the address book, and {@code toAdd} must not contain duplicates.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        toAdd.forEach(this::index);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from this {@code AddressBook} as a single change.
+     * Every person must exist in the address book.
+     */
+    public void removePersons(Collection<Person> toRemove) {
+        persons.removeAll(toRemove);
+        toRemove.forEach(this::unindex);
+    }
+
+    /**
+     * Replaces every key of {@code replacements} with its mapped person as a single change.
+     * Every key must exist in the address book, and the person identities after replacement must be unique.
+     */
+    public void replacePersons(Map<Person, Person> replacements) {
+        persons.replaceAll(replacements);
+        replacements.keySet().forEach(this::unindex);
+        replacements.values().forEach(this::index);
+    }
+
+    //// index lookups
+
+    /**
+     * Returns all persons assigned to {@code session}.
+     */
+    public List<Person> getPersonsInSession(Session session) {
+        return personsBySession.get(session);
+    }
+
+    /**
+     * Returns the number of persons assigned to {@code session}.
+     */
+    public int countPersonsInSession(Session session) {
+        return personsBySession.count(session);
+    }
+
+    /**
+     * Returns all persons of the given {@code type}.
+     */
+    public List<Person> getPersonsOfType(Type type) {
+        return personsByType.get(type);
+    }
+
+    /**
+     * Returns the number of persons of the given {@code type}.
+     */
+    public int countPersonsOfType(Type type) {
+        return personsByType.count(type);
+    }
+
+    /**
+     * Returns all persons with the given {@code email}.
+     */
+    public List<Person> getPersonsWithEmail(Email email) {
+        return personsByEmail.get(email);
+    }
+
+    /**
+     * Returns all persons with the given {@code phone}.
+     */
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        return personsByPhone.get(phone);
+    }
+
+    /**
+     * Returns all persons with the given {@code telegramUsername}.
+     */
+    public List<Person> getPersonsWithTelegramUsername(TelegramUsername telegramUsername) {
+        return personsByTelegramUsername.get(telegramUsername);
+    }
+
+    /**
+     * Returns all persons with {@code word} as one of the words of their name, ignoring case.
+     */
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return personsByNameWord.get(StringUtil.foldCase(word));
+    }
+
+    /**
+     * Returns the number of persons with {@code word} as one of the words of their name, ignoring case.
+     */
+    public int countPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return personsByNameWord.count(StringUtil.foldCase(word));
+    }
+
+    /**
+     * Returns all persons with a word of their name that sounds like {@code word}, i.e. has the same phonetic code.
+     *
+     * @see StringUtil#phoneticCode(String)
+     */
+    public List<Person> getPersonsWithNameSoundingLike(String word) {
+        return personsByNamePhoneticCode.get(StringUtil.phoneticCode(word));
+    }
+
+    /**
+     * Returns the number of persons with a word of their name that sounds like {@code word}.
+     */
+    public int countPersonsWithNameSoundingLike(String word) {
+        return personsByNamePhoneticCode.count(StringUtil.phoneticCode(word));
+    }
+
+    /**
+     * Returns all persons with a word of their name within {@code maxDistance} edits of {@code word}, ignoring case.
+     *
+     * @see StringUtil#editDistance(String, String)
+     */
+    public List<Person> getPersonsWithNameWordWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        return personsByNearNameWord.find(tree -> tree.getValuesWithin(word, maxDistance));
+    }
+
+    /**
+     * Returns all persons with a name, email or Telegram username that contains {@code substring}, ignoring case.
+     *
+     * @see Person#getSubstringSearchableFields()
+     */
+    public List<Person> getPersonsContaining(String substring) {
+        requireNonNull(substring);
+        return personsBySubstring.find(index -> index.getValuesContaining(substring));
+    }
+
+    /**
+     * Returns all persons with a word, or run of words, of their name that starts with {@code prefix},
+     * ignoring case.
+     */
+    public List<Person> getPersonsWithNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return personsByNamePrefix.find(tree -> tree.getValuesWithPrefix(prefix));
+    }
+
+    /**
+     * Returns all persons whose Telegram username, without its leading "@", starts with {@code prefix},
+     * ignoring case. A leading "@" in {@code prefix} is ignored.
+     */
+    public List<Person> getPersonsWithTelegramUsernamePrefix(String prefix) {
+        requireNonNull(prefix);
+        String username = TelegramUsername.withoutAtSign(prefix);
+        return personsByTelegramUsernamePrefix.find(tree -> tree.getValuesWithPrefix(username));
+    }
+
+    /**
+     * Returns all persons assigned to a session whose code starts with {@code prefix}, ignoring case.
+     */
+    public List<Person> getPersonsWithSessionPrefix(String prefix) {
+        requireNonNull(prefix);
+        return personsBySessionPrefix.find(tree -> tree.getValuesWithPrefix(prefix));
+    }
+
+    /**
+     * Returns all persons that satisfy {@code predicate}, for predicates that no index answers, by testing every
+     * person. Once there are {@link #PARALLEL_SCAN_THRESHOLD} persons, they are tested in parallel on the common
+     * fork/join pool, so {@code predicate} must be safe to test from several threads at once.
+     */
+    public Set<Person> getPersonsMatching(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        List<Person> personList = getPersonList();
+        return (personList.size() >= PARALLEL_SCAN_THRESHOLD ? personList.parallelStream() : personList.stream())
+                .filter(predicate)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the counts of persons by type, by session and by type within each session, and of the persons
+     * without a Telegram username.
+     */
+    public RosterStatistics getStatistics() {
+        return personCounts.toStatistics();
+    }
+
+    /**
+     * Adds {@code person}, which has just been added to the person list, to every secondary index.
+     */
+    protected void index(Person person) {
+        indexes.forEach(index -> index.add(person));
+    }
+
+    /**
+     * Removes {@code person}, which has just been removed from the person list, from every secondary index.
+     */
+    protected void unindex(Person person) {
+        indexes.forEach(index -> index.remove(person));
+    }
+
+    /**
+     * Rebuilds every secondary index from the current person list.
+     */
+    private void reindex() {
+        indexes.forEach(SecondaryIndex::clear);
+        persons.forEach(this::index);
     }
 
     //// util methods
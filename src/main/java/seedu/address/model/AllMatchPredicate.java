@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies all of the criteria given, testing them in the order given.
+ * To resolve the matches, the criterion with the smallest estimated count is resolved through the address book's
+ * indexes, and the other criteria are then only tested against those candidates, most selective first.
+ * Every person satisfies an empty list of criteria.
+ */
+public class AllMatchPredicate implements IndexedPredicate {
+    private final List<IndexedPredicate> criteria;
+
+    /**
+     * Creates a predicate that tests all of {@code criteria}.
+     */
+    public AllMatchPredicate(List<IndexedPredicate> criteria) {
+        requireNonNull(criteria);
+        this.criteria = criteria;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return testAll(criteria, person);
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        if (criteria.isEmpty()) {
+            return new HashSet<>(addressBook.getPersonList());
+        }
+        List<IndexedPredicate> plan = plan(addressBook);
+        List<IndexedPredicate> filters = plan.subList(1, plan.size());
+
+        Set<Person> matches = new HashSet<>();
+        for (Person candidate : plan.get(0).resolve(addressBook)) {
+            if (testAll(filters, candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateCount(AddressBook addressBook) {
+        return criteria.stream().mapToInt(criterion -> criterion.estimateCount(addressBook)).min()
+                .orElse(addressBook.getPersonList().size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * All of the criteria together refine {@code other} if any one of them does.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return criteria.stream().anyMatch(criterion -> criterion.refines(other))
+                || IndexedPredicate.super.refines(other);
+    }
+
+    private static boolean testAll(List<IndexedPredicate> criteria, Person person) {
+        for (IndexedPredicate criterion : criteria) {
+            if (!criterion.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the criteria ordered by their estimated count in {@code addressBook}, smallest first.
+     * The first criterion produces the candidates, and the rest filter them.
+     */
+    List<IndexedPredicate> plan(AddressBook addressBook) {
+        List<IndexedPredicate> plan = new ArrayList<>(criteria);
+        plan.sort(Comparator.comparingInt(criterion -> criterion.estimateCount(addressBook)));
+        return plan;
+    }
+
+    List<IndexedPredicate> getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AllMatchPredicate)) {
+            return false;
+        }
+
+        AllMatchPredicate otherAllMatchPredicate = (AllMatchPredicate) other;
+        return criteria.equals(otherAllMatchPredicate.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("criteria", criteria).toString();
+    }
+}
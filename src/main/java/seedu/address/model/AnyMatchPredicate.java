@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies any of the criteria given, testing them in the order given.
+ * The matches are resolved as the union of the matches of every criterion.
+ * No person satisfies an empty list of criteria.
+ */
+public class AnyMatchPredicate implements IndexedPredicate {
+    private final List<IndexedPredicate> criteria;
+
+    /**
+     * Creates a predicate that tests any of {@code criteria}.
+     */
+    public AnyMatchPredicate(List<IndexedPredicate> criteria) {
+        requireNonNull(criteria);
+        this.criteria = criteria;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (IndexedPredicate criterion : criteria) {
+            if (criterion.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (IndexedPredicate criterion : criteria) {
+            matches.addAll(criterion.resolve(addressBook));
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Any of the criteria refines {@code other} if each of them does.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return criteria.stream().allMatch(criterion -> criterion.refines(other))
+                || IndexedPredicate.super.refines(other);
+    }
+
+    @Override
+    public int estimateCount(AddressBook addressBook) {
+        long count = 0;
+        for (IndexedPredicate criterion : criteria) {
+            count += criterion.estimateCount(addressBook);
+        }
+        return (int) Math.min(count, addressBook.getPersonList().size());
+    }
+
+    List<IndexedPredicate> getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AnyMatchPredicate)) {
+            return false;
+        }
+
+        AnyMatchPredicate otherAnyMatchPredicate = (AnyMatchPredicate) other;
+        return criteria.equals(otherAnyMatchPredicate.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("criteria", criteria).toString();
+    }
+}
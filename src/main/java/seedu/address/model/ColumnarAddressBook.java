@@ -0,0 +1,161 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.TelegramUsername;
+import seedu.address.model.person.Type;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An immutable address book that stores its persons column by column, which holds an address book read from
+ * storage until the model copies it.
+ * Each field is kept in its own array, with the type and session dictionary encoded into {@code byte} and
+ * {@code short} codes. Unlike {@code AddressBook}, it builds no indexes, so the indexes of a loaded roster are only
+ * built once, by the model. A {@code Person} is assembled from the columns when an element of
+ * {@link #getPersonList()} is read.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private static final short NO_SESSION = -1;
+
+    private final int size;
+    private final Name[] names;
+    private final Phone[] phones;
+    private final Email[] emails;
+    private final TelegramUsername[] telegramUsernames; // null where the person has no telegram username
+    private final byte[] typeCodes;
+    private final short[] sessionCodes; // NO_SESSION where the person has no session
+    private final List<Type> typeDictionary = new ArrayList<>();
+    private final List<Session> sessionDictionary = new ArrayList<>();
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a ColumnarAddressBook holding {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
+     */
+    public ColumnarAddressBook(List<Person> persons) {
+        requireAllNonNull(persons);
+        Set<Name> seenNames = new HashSet<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                duplicateNames.add(person.getName());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(new ArrayList<>(duplicateNames));
+        }
+
+        size = persons.size();
+        names = new Name[size];
+        phones = new Phone[size];
+        emails = new Email[size];
+        telegramUsernames = new TelegramUsername[size];
+        typeCodes = new byte[size];
+        sessionCodes = new short[size];
+
+        Map<Type, Integer> typeCodesByType = new HashMap<>();
+        Map<Session, Integer> sessionCodesBySession = new HashMap<>();
+        int i = 0;
+        for (Person person : persons) {
+            names[i] = person.getName();
+            phones[i] = person.getPhone();
+            emails[i] = person.getEmail();
+            telegramUsernames[i] = person.getTelegramUsername().orElse(null);
+            typeCodes[i] = (byte) encode(person.getType(), typeDictionary, typeCodesByType);
+            sessionCodes[i] = person.getSession()
+                    .map(session -> (short) encode(session, sessionDictionary, sessionCodesBySession))
+                    .orElse(NO_SESSION);
+            i++;
+        }
+
+        personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonView()));
+    }
+
+    /**
+     * Returns the code of {@code value} in {@code dictionary}, adding it to the dictionary if it is new.
+     */
+    private static <T> int encode(T value, List<T> dictionary, Map<T, Integer> codes) {
+        return codes.computeIfAbsent(value, unused -> {
+            dictionary.add(value);
+            return dictionary.size() - 1;
+        });
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * Assembles the person stored in row {@code i}.
+     */
+    private Person personAt(int i) {
+        Session session = sessionCodes[i] == NO_SESSION ? null : sessionDictionary.get(sessionCodes[i]);
+        return new Person(names[i], phones[i], emails[i], typeDictionary.get(typeCodes[i]), telegramUsernames[i],
+                session);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ColumnarAddressBook)) {
+            return false;
+        }
+
+        ColumnarAddressBook otherColumnarAddressBook = (ColumnarAddressBook) other;
+        return personList.equals(otherColumnarAddressBook.personList);
+    }
+
+    @Override
+    public int hashCode() {
+        return personList.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", personList)
+                .toString();
+    }
+
+    /**
+     * A read-only list view that assembles each {@code Person} from the columns when it is read.
+     */
+    private class PersonView extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return personAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on persons whose matches can be looked up in an address book's indexes instead of testing
+ * every person. The model uses {@link #resolve(AddressBook)} to filter the whole roster, and only falls back
+ * to {@link #test(Object)} for persons that are added or changed while the filter is in effect.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns every person in {@code addressBook} that satisfies this predicate, in any order.
+     */
+    Collection<Person> resolve(AddressBook addressBook);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #resolve(AddressBook)} would return, computed
+     * without resolving them. Used to pick the most selective of several predicates to resolve.
+     * The default assumes every person may match.
+     */
+    default int estimateCount(AddressBook addressBook) {
+        return addressBook.getPersonList().size();
+    }
+
+    /**
+     * Returns true if every person that satisfies this predicate also satisfies {@code other}, so that the matches
+     * of this predicate can be found by testing only the matches of {@code other}.
+     * This may return false for some predicates that do refine {@code other}, but never the other way round.
+     * The default recognises an equal predicate, and combinations of criteria that this predicate refines.
+     */
+    default boolean refines(Predicate<Person> other) {
+        if (other instanceof AllMatchPredicate) {
+            return ((AllMatchPredicate) other).getCriteria().stream().allMatch(this::refines);
+        }
+        if (other instanceof AnyMatchPredicate) {
+            return ((AnyMatchPredicate) other).getCriteria().stream().anyMatch(this::refines);
+        }
+        return equals(other);
+    }
+}
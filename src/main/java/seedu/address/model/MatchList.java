@@ -0,0 +1,286 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of its source list that match a filter, which are given up front by their positions in the
+ * source rather than found by testing every element of it.
+ * While no matches are given, the whole source is shown and changes to it are passed on as they are. Otherwise, an
+ * element added to the source is shown if it passes the admission test given with the matches, the only test this
+ * list makes, and the positions of the matches are kept in line with the rest of each change. Either way, the view
+ * costs memory proportional to the number of matches only.
+ *
+ * @param <E> type of the elements of the list.
+ */
+class MatchList<E> extends TransformationList<E, E> {
+
+    // the positions in the source of the shown elements in ascending order, in the first matchCount slots, or null
+    // while the whole source is shown
+    private int[] positions;
+    private int matchCount;
+    private Predicate<? super E> admission;
+    private boolean admitsReplacementsOnly;
+
+    /**
+     * Creates a view that shows the whole of {@code source}.
+     */
+    MatchList(ObservableList<E> source) {
+        super(source);
+    }
+
+    /**
+     * Shows the whole source list.
+     */
+    void showAll() {
+        if (positions == null) {
+            return;
+        }
+        List<E> removed = new PositionView(positions, matchCount);
+        positions = null;
+        matchCount = 0;
+        admission = null;
+        admitsReplacementsOnly = false;
+        replaceAll(removed);
+    }
+
+    /**
+     * Shows the elements of the source list at {@code sourcePositions}, which must be in ascending order, and from
+     * then on each element added to the source that satisfies {@code admission}. If {@code admitsReplacementsOnly},
+     * only such an element that takes the place of a shown one, as an edited element does, is shown.
+     */
+    void showMatches(int[] sourcePositions, Predicate<? super E> admission, boolean admitsReplacementsOnly) {
+        requireNonNull(sourcePositions);
+        requireNonNull(admission);
+        List<E> removed = positions == null
+                ? Collections.unmodifiableList(getSource())
+                : new PositionView(positions, matchCount);
+        positions = sourcePositions.clone();
+        matchCount = sourcePositions.length;
+        this.admission = admission;
+        this.admitsReplacementsOnly = admitsReplacementsOnly;
+        replaceAll(removed);
+    }
+
+    /**
+     * Reports that the elements shown, previously {@code removed}, have been replaced by the current ones.
+     * The source list must not have changed since {@code removed} was taken.
+     */
+    private void replaceAll(List<E> removed) {
+        if (removed.isEmpty() && isEmpty()) {
+            return;
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!isEmpty()) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (positions == null) {
+                forwardChange(change);
+            } else if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                replaceRange(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on the current step of {@code change} to the source as a change to this list, which shows the whole
+     * source.
+     */
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        if (change.wasPermutated()) {
+            int[] permutation = new int[to - from];
+            for (int i = from; i < to; i++) {
+                permutation[i - from] = change.getPermutation(i);
+            }
+            nextPermutation(from, to, permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = from; i < to; i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                nextAdd(from, to);
+            }
+        }
+    }
+
+    /**
+     * Moves the matches reordered by the current step of {@code change}, a permutation of the source.
+     */
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        int low = lowerBound(change.getFrom());
+        int high = lowerBound(change.getTo());
+        int[] moved = new int[high - low];
+        for (int i = low; i < high; i++) {
+            moved[i - low] = change.getPermutation(positions[i]);
+        }
+        int[] sorted = moved.clone();
+        Arrays.sort(sorted);
+        int[] permutation = new int[high - low];
+        for (int i = 0; i < moved.length; i++) {
+            permutation[i] = low + Arrays.binarySearch(sorted, moved[i]);
+        }
+        System.arraycopy(sorted, 0, positions, low, sorted.length);
+        if (high > low) {
+            nextPermutation(low, high, permutation);
+        }
+    }
+
+    /**
+     * Reports the matches updated in place by the current step of {@code change}.
+     */
+    private void update(ListChangeListener.Change<? extends E> change) {
+        for (int i = lowerBound(change.getFrom()); i < matchCount && positions[i] < change.getTo(); i++) {
+            nextUpdate(i);
+        }
+    }
+
+    /**
+     * Brings the matches in line with the current step of {@code change}, which replaces a range of the source:
+     * the matches in the removed range are dropped, the added elements that pass the admission test are shown, and
+     * the positions of the matches after the range are shifted.
+     */
+    private void replaceRange(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int low = lowerBound(from);
+        int high = lowerBound(from + removedSize);
+
+        List<E> removed = new ArrayList<>(high - low);
+        for (int i = low; i < high; i++) {
+            removed.add(change.getRemoved().get(positions[i] - from));
+        }
+        List<Integer> admitted = new ArrayList<>();
+        List<? extends E> added = change.getAddedSubList();
+        for (int i = 0; i < addedSize; i++) {
+            boolean isAdmissible = !admitsReplacementsOnly
+                    || i < removedSize && Arrays.binarySearch(positions, low, high, from + i) >= 0;
+            if (isAdmissible && admission.test(added.get(i))) {
+                admitted.add(from + i);
+            }
+        }
+
+        int newMatchCount = matchCount - removed.size() + admitted.size();
+        if (newMatchCount > positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(newMatchCount, positions.length * 2));
+        }
+        System.arraycopy(positions, high, positions, low + admitted.size(), matchCount - high);
+        for (int i = 0; i < admitted.size(); i++) {
+            positions[low + i] = admitted.get(i);
+        }
+        int shift = addedSize - removedSize;
+        for (int i = low + admitted.size(); i < newMatchCount; i++) {
+            positions[i] += shift;
+        }
+        matchCount = newMatchCount;
+
+        if (!removed.isEmpty()) {
+            nextRemove(low, removed);
+        }
+        if (!admitted.isEmpty()) {
+            nextAdd(low, low + admitted.size());
+        }
+    }
+
+    /**
+     * Returns the number of matches at positions before {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int low = 0;
+        int high = matchCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return positions == null ? getSource().size() : matchCount;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return positions == null ? index : positions[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (positions == null) {
+            return index;
+        }
+        int viewIndex = lowerBound(index);
+        return viewIndex < matchCount && positions[viewIndex] == index ? viewIndex : -1;
+    }
+
+    /**
+     * An unmodifiable view of the elements of the source list at some positions, which reads through to the source
+     * so that reporting them as removed does not copy them.
+     */
+    private final class PositionView extends AbstractList<E> {
+        private final int[] viewPositions;
+        private final int viewSize;
+
+        PositionView(int[] viewPositions, int viewSize) {
+            this.viewPositions = viewPositions;
+            this.viewSize = viewSize;
+        }
+
+        @Override
+        public E get(int index) {
+            if (index < 0 || index >= viewSize) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return getSource().get(viewPositions[index]);
+        }
+
+        @Override
+        public int size() {
+            return viewSize;
+        }
+    }
+}
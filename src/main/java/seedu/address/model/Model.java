@@ -1,11 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.TelegramUsername;
+import seedu.address.model.person.Type;
 
 /**
  * The API of the Model component.
@@ -14,6 +25,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /** The limit on the number of persons listed that lists every one of them */
+    int NO_LIMIT = Integer.MAX_VALUE;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -52,11 +66,23 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable point-in-time view of the AddressBook, taken in O(1) time.
+     * Later changes to the AddressBook are not reflected in the returned view.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book with the given {@code name}, which is matched case-sensitively,
+     * if there is one.
+     */
+    Optional<Person> getPersonWithName(Name name);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -76,12 +102,177 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Adds all the given persons as a single change.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    void addPersons(List<Person> persons);
+
+    /**
+     * Deletes all the given persons as a single change.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
+    /**
+     * Replaces every key of {@code replacements} with its mapped person as a single change.
+     * Every key must exist in the address book.
+     * The person identities after replacement must not be the same as another existing person in the address book.
+     */
+    void replacePersons(Map<Person, Person> replacements);
+
+    /**
+     * Returns all persons in the address book assigned to {@code session}.
+     */
+    List<Person> getPersonsInSession(Session session);
+
+    /**
+     * Returns all persons in the address book of the given {@code type}.
+     */
+    List<Person> getPersonsOfType(Type type);
+
+    /**
+     * Returns all persons in the address book with the given {@code email}.
+     */
+    List<Person> getPersonsWithEmail(Email email);
+
+    /**
+     * Returns all persons in the address book with the given {@code phone}.
+     */
+    List<Person> getPersonsWithPhone(Phone phone);
+
+    /**
+     * Returns all persons in the address book with the given {@code telegramUsername}.
+     */
+    List<Person> getPersonsWithTelegramUsername(TelegramUsername telegramUsername);
+
+    /**
+     * Returns all persons in the address book with a word, or run of words, of their name that starts with
+     * {@code prefix}, ignoring case.
+     */
+    List<Person> getPersonsWithNamePrefix(String prefix);
+
+    /**
+     * Returns all persons in the address book whose Telegram username, without its leading "@", starts with
+     * {@code prefix}, ignoring case. A leading "@" in {@code prefix} is ignored.
+     */
+    List<Person> getPersonsWithTelegramUsernamePrefix(String prefix);
+
+    /**
+     * Returns all persons in the address book assigned to a session whose code starts with {@code prefix},
+     * ignoring case.
+     */
+    List<Person> getPersonsWithSessionPrefix(String prefix);
+
+    /**
+     * Returns the counts of persons in the address book by type and session.
+     */
+    RosterStatistics getStatistics();
+
+    /**
+     * Returns a predicate that tests {@code query}, compiled against the address book's indexes.
+     */
+    IndexedPredicate compileQuery(Query query);
+
+    /**
+     * Returns true if the model has previous address book states to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has undone address book states to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the current address book state for undo/redo.
+     */
+    void commitAddressBook();
+
+    /** Returns an unmodifiable view of the current page of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the number of persons in the filtered person list, across all of its pages */
+    int getFilteredPersonCount();
+
+    /**
+     * Returns true if {@code person} is on the current page of the filtered person list.
+     */
+    boolean isDisplayed(Person person);
+
+    /**
+     * Shows only {@code page} of the filtered person list, until the filter is next updated.
+     * @throws NullPointerException if {@code page} is null.
+     */
+    void setFilteredPersonListPage(Page page);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The persons are listed in the order set by {@link #sortFilteredPersonList(Comparator)}, all on one page.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and lists the persons
+     * in the order given by {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, but lists only the
+     * first {@code limit} persons found, in the order set by {@link #sortFilteredPersonList(Comparator)}.
+     * Persons beyond the limit are not brought into the list by later edits, until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, int limit);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, but lists only the
+     * first {@code limit} persons found, in the order given by {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator, int limit);
+
+    /**
+     * Updates the filter of the filtered person list as {@link #updateFilteredPersonList(Predicate, int)} does, and
+     * shows only {@code page} of it, in a single update of the list.
+     * @throws NullPointerException if {@code predicate} or {@code page} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, int limit, Page page);
+
+    /**
+     * Updates the filter of the filtered person list as {@link #updateFilteredPersonList(Predicate, Comparator, int)}
+     * does, and shows only {@code page} of it, in a single update of the list.
+     * @throws NullPointerException if {@code predicate}, {@code comparator} or {@code page} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator, int limit, Page page);
+
+    /**
+     * Lists the persons in the filtered person list, and those of later filters, in the order given by
+     * {@code comparator}, keeping the current filter. A null {@code comparator} restores address book order.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
+    /**
+     * Sorts the filtered person list as {@link #sortFilteredPersonList(Comparator)} does, but keeps only the first
+     * {@code limit} persons listed.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator, int limit);
 }
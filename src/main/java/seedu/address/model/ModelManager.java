@@ -1,17 +1,36 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.LruCache;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.TelegramUsername;
+import seedu.address.model.person.Type;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,21 +38,63 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    /**
+     * The number of persons from which a predicate is tested on them in parallel, on the common fork/join pool,
+     * rather than one by one.
+     */
+    static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = AddressBook.PARALLEL_SCAN_THRESHOLD;
+
+    /** The number of recent filters whose matches are kept for reuse. */
+    static final int QUERY_CACHE_CAPACITY = 16;
+
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final MatchList<Person> filteredPersons;
+    private final OrderedList<Person> sortedPersons;
+    private final PagedList<Person> pagedPersons;
+    private final int parallelFilterThreshold;
+    private final LruCache<IndexedPredicate, CachedMatches> queryCache = new LruCache<>(QUERY_CACHE_CAPACITY);
+
+    // The number of changes made to the persons list, which stamps the matches in the query cache
+    private long modificationCount;
+
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    // The order the current filter lists persons in, and the number of its matches it lists at most
+    private Comparator<Person> filterOrder;
+    private int filterLimit = NO_LIMIT;
+    // Whether the persons listed are only the first of the matches of the filter, cut off at a limit
+    private boolean isLimited;
+    // Whether that limit is the end of the page shown, and the number of matches there are in all if so
+    private boolean isPaged;
+    private int pagedMatchCount;
+    // The order persons are listed in, or null for address book order
+    private Comparator<Person> sortOrder;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Initializes a ModelManager that tests a predicate on the persons in parallel once there are
+     * {@code parallelFilterThreshold} persons to test.
+     */
+    ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, int parallelFilterThreshold) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.parallelFilterThreshold = parallelFilterThreshold;
+        this.addressBook.getPersonList().addListener(this::countModification);
+        filteredPersons = new MatchList<>(this.addressBook.getPersonList());
+        sortedPersons = new OrderedList<>(filteredPersons);
+        pagedPersons = new PagedList<>(sortedPersons);
+        // registered after the lists' own listeners, so a page is found again once they have taken the change
+        this.addressBook.getPersonList().addListener(this::refreshPage);
     }
 
     public ModelManager() {
@@ -87,12 +148,23 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> getPersonWithName(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonWithName(name);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -111,6 +183,108 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        addressBook.removePersons(targets);
+    }
+
+    @Override
+    public void replacePersons(Map<Person, Person> replacements) {
+        addressBook.replacePersons(replacements);
+    }
+
+    @Override
+    public List<Person> getPersonsInSession(Session session) {
+        requireNonNull(session);
+        return addressBook.getPersonsInSession(session);
+    }
+
+    @Override
+    public List<Person> getPersonsOfType(Type type) {
+        requireNonNull(type);
+        return addressBook.getPersonsOfType(type);
+    }
+
+    @Override
+    public List<Person> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.getPersonsWithEmail(email);
+    }
+
+    @Override
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.getPersonsWithPhone(phone);
+    }
+
+    @Override
+    public List<Person> getPersonsWithTelegramUsername(TelegramUsername telegramUsername) {
+        requireNonNull(telegramUsername);
+        return addressBook.getPersonsWithTelegramUsername(telegramUsername);
+    }
+
+    @Override
+    public List<Person> getPersonsWithNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return addressBook.getPersonsWithNamePrefix(prefix);
+    }
+
+    @Override
+    public List<Person> getPersonsWithTelegramUsernamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return addressBook.getPersonsWithTelegramUsernamePrefix(prefix);
+    }
+
+    @Override
+    public List<Person> getPersonsWithSessionPrefix(String prefix) {
+        requireNonNull(prefix);
+        return addressBook.getPersonsWithSessionPrefix(prefix);
+    }
+
+    @Override
+    public RosterStatistics getStatistics() {
+        return addressBook.getStatistics();
+    }
+
+    @Override
+    public IndexedPredicate compileQuery(Query query) {
+        requireNonNull(query);
+        return query.compile(addressBook);
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -119,13 +293,298 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return pagedPersons;
+    }
+
+    @Override
+    public int getFilteredPersonCount() {
+        return isPaged ? pagedMatchCount : sortedPersons.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The person's position in the address book is found by binary search and then mapped through the filtered,
+     * sorted and paged lists in turn, so the check takes O(log n) time without reading the displayed list.
+     */
+    @Override
+    public boolean isDisplayed(Person person) {
+        requireNonNull(person);
+        int position = addressBook.indexOf(person);
+        int filteredIndex = position < 0 ? -1 : filteredPersons.getViewIndex(position);
+        return filteredIndex >= 0 && pagedPersons.getViewIndex(sortedPersons.getViewIndex(filteredIndex)) >= 0;
     }
 
+    /**
+     * {@inheritDoc}
+     * Unless the filter has a limit, it is applied again as by
+     * {@link #updateFilteredPersonList(Predicate, int, Page)}, so that only the persons up to the end of the page
+     * are kept.
+     */
+    @Override
+    public void setFilteredPersonListPage(Page page) {
+        requireNonNull(page);
+        if (filterLimit == NO_LIMIT) {
+            filter(filterPredicate, filterOrder, NO_LIMIT, page);
+        } else {
+            pagedPersons.setPage(page);
+        }
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        filter(predicate, comparator, NO_LIMIT, Page.ALL);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The matches of an {@code IndexedPredicate} are reused from the query cache if the address book has not
+     * changed since they were found. Otherwise, an {@code IndexedPredicate} that refines the current filter, such
+     * as one with an extra criterion, is only tested against the persons currently listed, unless its indexes
+     * promise fewer candidates, and any other {@code IndexedPredicate} is resolved through the address book's
+     * indexes once. Any other predicate is tested on every person. Once there are many persons to test, they are
+     * tested in parallel on the common fork/join pool, and this returns when all of them have been, so the new
+     * matches are listed when it returns.
+     * Either way the filtered list is handed the positions of the matches and switches to them in a single
+     * update, without testing any person itself. The matches are then kept up to date as persons are added, edited
+     * and removed, testing only the persons added.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
-        requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filter(predicate, sortOrder, NO_LIMIT, Page.ALL);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The matches are found as by {@link #updateFilteredPersonList(Predicate)}, but only the first {@code limit}
+     * of them reach the filtered and sorted lists, so sorting them costs O(limit log limit).
+     * Without a sort order, the address book is read only until {@code limit} matches are found. Otherwise the
+     * first matches are selected with a heap of at most {@code limit} persons, in O(n log limit) time.
+     */
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, int limit) {
+        filter(predicate, sortOrder, limit, Page.ALL);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator, int limit) {
+        requireNonNull(comparator);
+        filter(predicate, comparator, limit, Page.ALL);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Without a limit, all the matches are found to count them, but only those up to the end of the page are
+     * kept, as under a limit, so the lists hold at most that many persons however many match. They are not kept in
+     * the query cache. Since a change to the address book can move persons onto the page, the filter is applied
+     * again after each change while the persons listed are cut off at the end of the page.
+     */
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, int limit, Page page) {
+        filter(predicate, sortOrder, limit, page);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator, int limit,
+            Page page) {
+        requireNonNull(comparator);
+        filter(predicate, comparator, limit, page);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The sorted list repositions an added or edited person by binary search, so keeping the order costs
+     * O(log n) comparisons per change rather than a full sort. If the persons listed are cut off at the end of a
+     * page, the filter is applied again to find the page in the new order.
+     */
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        sortOrder = comparator;
+        if (isPaged) {
+            filter(filterPredicate, comparator, NO_LIMIT, pagedPersons.getPage());
+            return;
+        }
+        filterOrder = comparator;
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons to keep are selected from those listed with a heap of at most {@code limit} persons before the
+     * list is sorted, so only they are sorted.
+     */
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator, int limit) {
+        checkArgument(limit > 0);
+        if (isPaged) {
+            sortOrder = comparator;
+            filter(filterPredicate, comparator, limit, pagedPersons.getPage());
+            return;
+        }
+        filterLimit = Math.min(filterLimit, limit);
+        if (filteredPersons.size() > limit) {
+            publishFirst(filteredPersons.stream(), comparator, limit);
+        }
+        sortFilteredPersonList(comparator);
+    }
+
+    /**
+     * Filters the persons by {@code predicate} and lists the first {@code limit} of them in {@code order}, or in
+     * address book order if it is null, showing only {@code page} of them. The lists take the new filter, order
+     * and page in a single update.
+     */
+    private void filter(Predicate<Person> predicate, Comparator<Person> order, int limit, Page page) {
+        requireAllNonNull(predicate, page);
+        checkArgument(limit > 0);
+        if (limit == NO_LIMIT && !page.equals(Page.ALL)) {
+            // the persons after the page are never shown, so only the matches up to its end are kept
+            int pageEnd = (int) Math.min((long) page.getOffset() + page.getSize(), NO_LIMIT);
+            pagedPersons.update(page, () -> applyFilter(predicate, order, pageEnd, true));
+        } else {
+            pagedPersons.update(page, () -> applyFilter(predicate, order, limit, false));
+        }
+    }
+
+    /**
+     * Filters the persons by {@code predicate} and lists the first {@code limit} of them in {@code order}.
+     * If {@code isPageLimit}, the limit is the end of the page shown rather than one the user set, so every match
+     * is found to count them.
+     */
+    private void applyFilter(Predicate<Person> predicate, Comparator<Person> order, int limit, boolean isPageLimit) {
+        int personCount = addressBook.getPersonList().size();
+        Predicate<Person> previousPredicate = replaceFilter(predicate, order, isPageLimit ? NO_LIMIT : limit);
+        if (predicate instanceof IndexedPredicate) {
+            IndexedPredicate indexedPredicate = (IndexedPredicate) predicate;
+            int[] matches = getCachedMatches(indexedPredicate)
+                    .orElseGet(() -> findMatches(indexedPredicate, previousPredicate));
+            if (!isPageLimit) {
+                queryCache.put(indexedPredicate, new CachedMatches(modificationCount, matches));
+            }
+            publishMatches(matches, order, limit);
+        } else if (limit < personCount && !isPageLimit) {
+            publishFirst(addressBook.getPersonList().stream().filter(predicate), order, limit);
+        } else if (predicate == PREDICATE_SHOW_ALL_PERSONS && limit >= personCount) {
+            filteredPersons.showAll();
+        } else {
+            publishMatches(resolve(predicate, personCount, IntUnaryOperator.identity()), order, limit);
+        }
+        isPaged = isPageLimit && isLimited;
+        sortedPersons.setComparator(order);
+    }
+
+    /**
+     * Makes {@code predicate} the current filter, listing at most {@code limit} persons in {@code order}, and
+     * returns the filter it replaces if the persons listed are all of its matches, or null otherwise.
+     */
+    private Predicate<Person> replaceFilter(Predicate<Person> predicate, Comparator<Person> order, int limit) {
+        // the persons listed under a limit are only some of the matches of the filter, so they cannot be refined
+        Predicate<Person> previousPredicate = isLimited ? null : filterPredicate;
+        filterPredicate = predicate;
+        filterOrder = order;
+        filterLimit = limit;
+        isLimited = false;
+        isPaged = false;
+        return previousPredicate;
+    }
+
+    /**
+     * Returns the positions of the matches cached for {@code predicate}, if they were found since the last change
+     * to the persons.
+     */
+    private Optional<int[]> getCachedMatches(IndexedPredicate predicate) {
+        return queryCache.get(predicate)
+                .filter(cachedMatches -> cachedMatches.modificationCount == modificationCount)
+                .map(cachedMatches -> cachedMatches.positions);
+    }
+
+    private int[] findMatches(IndexedPredicate predicate, Predicate<Person> previousPredicate) {
+        if (previousPredicate != null && isCheaperToRefine(predicate, previousPredicate)) {
+            return resolve(predicate, filteredPersons.size(), filteredPersons::getSourceIndex);
+        }
+        return positionsOf(predicate.resolve(addressBook));
+    }
+
+    /**
+     * Returns true if {@code predicate} refines {@code previousPredicate}, the filter behind the persons currently
+     * listed, and testing those persons is expected to be cheaper than resolving {@code predicate}.
+     */
+    private boolean isCheaperToRefine(IndexedPredicate predicate, Predicate<Person> previousPredicate) {
+        return filteredPersons.size() <= predicate.estimateCount(addressBook) && predicate.refines(previousPredicate);
+    }
+
+    /**
+     * Returns the positions of the persons that satisfy {@code predicate} among the {@code candidateCount}
+     * candidates, whose positions in the address book {@code candidatePosition} gives in ascending order. Once
+     * there are {@code parallelFilterThreshold} candidates, they are tested in parallel on the common fork/join
+     * pool. The predicate must be safe to test from several threads at once, as the model's predicates are.
+     */
+    private int[] resolve(Predicate<Person> predicate, int candidateCount, IntUnaryOperator candidatePosition) {
+        List<Person> persons = addressBook.getPersonList();
+        IntStream candidates = IntStream.range(0, candidateCount);
+        if (candidateCount >= parallelFilterThreshold) {
+            candidates = candidates.parallel();
+        }
+        return candidates.map(candidatePosition).filter(i -> predicate.test(persons.get(i))).toArray();
+    }
+
+    /**
+     * Returns the positions of {@code persons}, which must all be in the address book, in ascending order.
+     */
+    private int[] positionsOf(Collection<Person> persons) {
+        return persons.stream().mapToInt(addressBook::indexOf).sorted().toArray();
+    }
+
+    /**
+     * Lists the persons at {@code positions}. The filtered list admits a person added later if it satisfies the
+     * filter, but under a limit only in place of a listed person it replaces, such as the one it was edited from,
+     * so that persons beyond the limit are not brought in.
+     */
+    private void publishMatches(int[] positions) {
+        filteredPersons.showMatches(positions, filterPredicate, isLimited);
+    }
+
+    /**
+     * Lists the persons at {@code matches}, or only the first {@code limit} of them in {@code order} if there are
+     * more.
+     */
+    private void publishMatches(int[] matches, Comparator<Person> order, int limit) {
+        pagedMatchCount = matches.length;
+        if (matches.length <= limit) {
+            publishMatches(matches);
+            return;
+        }
+        List<Person> persons = addressBook.getPersonList();
+        publishFirst(Arrays.stream(matches).mapToObj(persons::get), order, limit);
+    }
+
+    /**
+     * Lists only the first {@code limit} of {@code candidates}, which come in address book order, by {@code order},
+     * or in address book order if it is null. Without an order, the candidates are read only until enough have been
+     * found; otherwise they are selected with a heap of at most {@code limit} persons.
+     */
+    private void publishFirst(Stream<Person> candidates, Comparator<Person> order, int limit) {
+        List<Person> first = order == null
+                ? candidates.limit(limit).collect(Collectors.toList())
+                : CollectionUtil.least(candidates, limit, order);
+        isLimited = first.size() == limit;
+        publishMatches(positionsOf(first));
+    }
+
+    /**
+     * Counts a change to the address book, which invalidates every entry of the query cache.
+     */
+    private void countModification(ListChangeListener.Change<? extends Person> change) {
+        modificationCount++;
+    }
+
+    /**
+     * Applies the filter again after a change to the address book if the persons listed are cut off at the end of
+     * the page shown, as the change may have moved other matches onto the page.
+     */
+    private void refreshPage(ListChangeListener.Change<? extends Person> change) {
+        if (isPaged) {
+            filter(filterPredicate, filterOrder, NO_LIMIT, pagedPersons.getPage());
+        }
     }
 
     @Override
@@ -142,7 +601,20 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && pagedPersons.equals(otherModelManager.pagedPersons);
     }
 
+    /**
+     * The positions of the matches of a filter in ascending order, stamped with the modification count of the
+     * persons list they were found at. The positions must not be modified while the stamp is current.
+     */
+    private static final class CachedMatches {
+        private final long modificationCount;
+        private final int[] positions;
+
+        CachedMatches(long modificationCount, int[] positions) {
+            this.modificationCount = modificationCount;
+            this.positions = positions;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not satisfy the criterion given.
+ * Indexes cannot list the persons missing from them, so resolving the matches tests every person, in parallel on
+ * large rosters.
+ */
+public class NotMatchPredicate implements IndexedPredicate {
+    private final IndexedPredicate criterion;
+
+    /**
+     * Creates a predicate that negates {@code criterion}.
+     */
+    public NotMatchPredicate(IndexedPredicate criterion) {
+        requireNonNull(criterion);
+        this.criterion = criterion;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !criterion.test(person);
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        return addressBook.getPersonsMatching(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The negation of a criterion refines the negation of any criterion that refines it.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return (other instanceof NotMatchPredicate && ((NotMatchPredicate) other).criterion.refines(criterion))
+                || IndexedPredicate.super.refines(other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotMatchPredicate)) {
+            return false;
+        }
+
+        NotMatchPredicate otherNotMatchPredicate = (NotMatchPredicate) other;
+        return criterion.equals(otherNotMatchPredicate.criterion);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~criterion.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("criterion", criterion).toString();
+    }
+}
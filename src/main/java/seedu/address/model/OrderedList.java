@@ -0,0 +1,336 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of its source list in the order of a comparator, which keeps that order as the source changes instead of
+ * sorting the view again.
+ * The elements are kept in view order together with their positions in the source, and the view position of each
+ * source position is kept as well, so both lookups take O(1) time. A few elements added or updated at once are each
+ * placed by binary search, in O(log n) comparisons; more are sorted among themselves and merged into the view in one
+ * pass. Sorting the view as a whole, when the comparator changes or the whole source is replaced, uses
+ * {@link Arrays#parallelSort}, which splits large lists across the common fork/join pool. Elements that compare
+ * equal, and all elements while there is no comparator, are in source order.
+ *
+ * @param <E> type of the elements of the list.
+ */
+class OrderedList<E> extends TransformationList<E, E> {
+
+    /** The number of elements added by one change up to which each is placed by binary search rather than merged. */
+    static final int BINARY_INSERTION_LIMIT = 64;
+
+    private Comparator<? super E> comparator;
+    // the elements in view order and their positions in the source, in the first size slots
+    private Object[] elements;
+    private int[] sourceIndexes;
+    // the view position of each source position, in the first size slots
+    private int[] viewIndexes;
+    private int size;
+
+    /**
+     * Creates a view that shows {@code source} in its own order.
+     */
+    OrderedList(ObservableList<E> source) {
+        super(source);
+        elements = source.toArray();
+        size = elements.length;
+        sourceIndexes = new int[size];
+        Arrays.setAll(sourceIndexes, i -> i);
+        viewIndexes = sourceIndexes.clone();
+    }
+
+    /**
+     * Orders the view by {@code comparator}, or in source order if it is null.
+     */
+    void setComparator(Comparator<? super E> comparator) {
+        if (comparator == this.comparator) {
+            return;
+        }
+        this.comparator = comparator;
+        reorder();
+    }
+
+    Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else if (change.wasRemoved() && change.getRemovedSize() == size) {
+                replaceAll(change.getAddedSubList());
+            } else {
+                removeRange(change.getFrom(), change.getRemovedSize(), change.getAddedSize());
+                insert(change.getAddedSubList(), change.getFrom());
+                updateViewIndexes(0, size);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Moves the elements reordered by the current step of {@code change}, a permutation of the source. Only elements
+     * that compare equal change places in the view.
+     */
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] >= change.getFrom() && sourceIndexes[i] < change.getTo()) {
+                sourceIndexes[i] = change.getPermutation(sourceIndexes[i]);
+            }
+        }
+        reorder();
+    }
+
+    /**
+     * Moves each element updated by the current step of {@code change} to its place by binary search.
+     */
+    private void update(ListChangeListener.Change<? extends E> change) {
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            int oldIndex = viewIndexes[sourceIndex];
+            E element = get(oldIndex);
+            System.arraycopy(elements, oldIndex + 1, elements, oldIndex, size - oldIndex - 1);
+            System.arraycopy(sourceIndexes, oldIndex + 1, sourceIndexes, oldIndex, size - oldIndex - 1);
+            int newIndex = insertionPoint(element, sourceIndex, size - 1);
+            System.arraycopy(elements, newIndex, elements, newIndex + 1, size - newIndex - 1);
+            System.arraycopy(sourceIndexes, newIndex, sourceIndexes, newIndex + 1, size - newIndex - 1);
+            elements[newIndex] = element;
+            sourceIndexes[newIndex] = sourceIndex;
+            updateViewIndexes(Math.min(oldIndex, newIndex), Math.max(oldIndex, newIndex) + 1);
+            if (newIndex == oldIndex) {
+                nextUpdate(newIndex);
+            } else {
+                nextRemove(oldIndex, element);
+                nextAdd(newIndex, newIndex + 1);
+            }
+        }
+    }
+
+    /**
+     * Replaces every element of the view by {@code added}, sorted as a whole.
+     */
+    @SuppressWarnings("unchecked")
+    private void replaceAll(List<? extends E> added) {
+        List<E> removed = Collections.unmodifiableList(Arrays.asList((E[]) elements).subList(0, size));
+        int[] order = sortedIndexes(added);
+        elements = new Object[order.length];
+        sourceIndexes = new int[order.length];
+        viewIndexes = new int[order.length];
+        size = order.length;
+        for (int i = 0; i < size; i++) {
+            elements[i] = added.get(order[i]);
+            sourceIndexes[i] = order[i];
+        }
+        updateViewIndexes(0, size);
+        nextRemove(0, removed);
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+    }
+
+    /**
+     * Drops the {@code removedSize} elements removed from the source at {@code from}, and shifts the source
+     * positions of the elements after them by the difference to the {@code addedSize} elements added in their place.
+     */
+    private void removeRange(int from, int removedSize, int addedSize) {
+        int[] removedIndexes = new int[removedSize];
+        for (int i = 0; i < removedSize; i++) {
+            removedIndexes[i] = viewIndexes[from + i];
+        }
+        Arrays.sort(removedIndexes);
+        for (int i = removedSize - 1; i >= 0; i--) {
+            nextRemove(removedIndexes[i], get(removedIndexes[i]));
+        }
+
+        int keptCount = 0;
+        int nextRemoved = 0;
+        for (int i = 0; i < size; i++) {
+            if (nextRemoved < removedSize && removedIndexes[nextRemoved] == i) {
+                nextRemoved++;
+                continue;
+            }
+            elements[keptCount] = elements[i];
+            sourceIndexes[keptCount] = sourceIndexes[i] >= from + removedSize
+                    ? sourceIndexes[i] + addedSize - removedSize
+                    : sourceIndexes[i];
+            keptCount++;
+        }
+        Arrays.fill(elements, keptCount, size, null);
+        size = keptCount;
+    }
+
+    /**
+     * Places {@code added}, added to the source at {@code from}, in the view.
+     */
+    private void insert(List<? extends E> added, int from) {
+        int addedSize = added.size();
+        ensureCapacity(size + addedSize);
+        if (addedSize > BINARY_INSERTION_LIMIT) {
+            merge(added, from);
+            return;
+        }
+        for (int i = 0; i < addedSize; i++) {
+            int index = insertionPoint(added.get(i), from + i, size);
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+            System.arraycopy(sourceIndexes, index, sourceIndexes, index + 1, size - index);
+            elements[index] = added.get(i);
+            sourceIndexes[index] = from + i;
+            size++;
+            nextAdd(index, index + 1);
+        }
+    }
+
+    /**
+     * Sorts {@code added}, added to the source at {@code from}, and merges it into the view from the back.
+     */
+    private void merge(List<? extends E> added, int from) {
+        int[] order = sortedIndexes(added);
+        boolean[] isAdded = new boolean[size + order.length];
+        int next = size - 1;
+        int nextAdded = order.length - 1;
+        for (int i = size + order.length - 1; nextAdded >= 0; i--) {
+            E element = added.get(order[nextAdded]);
+            int sourceIndex = from + order[nextAdded];
+            if (next >= 0 && compare(get(next), sourceIndexes[next], element, sourceIndex) > 0) {
+                elements[i] = elements[next];
+                sourceIndexes[i] = sourceIndexes[next];
+                next--;
+            } else {
+                elements[i] = element;
+                sourceIndexes[i] = sourceIndex;
+                isAdded[i] = true;
+                nextAdded--;
+            }
+        }
+        size += order.length;
+
+        for (int i = 0; i < size; i++) {
+            if (isAdded[i]) {
+                int runStart = i;
+                while (i < size && isAdded[i]) {
+                    i++;
+                }
+                nextAdd(runStart, i);
+            }
+        }
+    }
+
+    /**
+     * Sorts the whole view again, as after the comparator or the source positions changed, and reports the moves.
+     */
+    private void reorder() {
+        Integer[] order = new Integer[size];
+        Arrays.setAll(order, i -> i);
+        Arrays.parallelSort(order, (i, j) -> compare(get(i), sourceIndexes[i], get(j), sourceIndexes[j]));
+        Object[] reorderedElements = new Object[elements.length];
+        int[] reorderedIndexes = new int[elements.length];
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            reorderedElements[i] = elements[order[i]];
+            reorderedIndexes[i] = sourceIndexes[order[i]];
+            permutation[order[i]] = i;
+        }
+        elements = reorderedElements;
+        sourceIndexes = reorderedIndexes;
+        updateViewIndexes(0, size);
+        if (size > 0) {
+            beginChange();
+            nextPermutation(0, size, permutation);
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the indexes of {@code list} in the order of its elements, keeping equal elements in list order.
+     */
+    private int[] sortedIndexes(List<? extends E> list) {
+        Integer[] order = new Integer[list.size()];
+        Arrays.setAll(order, i -> i);
+        if (comparator != null) {
+            Arrays.parallelSort(order, (i, j) -> comparator.compare(list.get(i), list.get(j)));
+        }
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the number of the first {@code count} elements of the view that come before {@code element} at
+     * {@code sourceIndex}.
+     */
+    private int insertionPoint(E element, int sourceIndex, int count) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(get(mid), sourceIndexes[mid], element, sourceIndex) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares two elements by the comparator, and by their positions in the source if it finds them equal.
+     */
+    private int compare(E element, int sourceIndex, E otherElement, int otherSourceIndex) {
+        int result = comparator == null ? 0 : comparator.compare(element, otherElement);
+        return result != 0 ? result : Integer.compare(sourceIndex, otherSourceIndex);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int newCapacity = Math.max(capacity, elements.length * 2);
+            elements = Arrays.copyOf(elements, newCapacity);
+            sourceIndexes = Arrays.copyOf(sourceIndexes, newCapacity);
+            viewIndexes = Arrays.copyOf(viewIndexes, newCapacity);
+        }
+    }
+
+    private void updateViewIndexes(int from, int to) {
+        for (int i = from; i < to; i++) {
+            viewIndexes[sourceIndexes[i]] = i;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return viewIndexes[index];
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A page of the filtered person list: the {@code size} persons after the first {@code (number - 1) * size}.
+ * Guarantees: immutable; the number and size are positive.
+ */
+public final class Page {
+
+    public static final String MESSAGE_CONSTRAINTS = "Page numbers and sizes should be positive integers.";
+
+    /** The number of persons on a page when only the page number is given. */
+    public static final int DEFAULT_SIZE = 100;
+
+    /** The single page that holds every person. */
+    public static final Page ALL = new Page(1, Integer.MAX_VALUE);
+
+    private final int number;
+    private final int size;
+
+    /**
+     * Constructs the page numbered {@code number}, counting from 1, of a list split into pages of {@code size}.
+     */
+    public Page(int number, int size) {
+        checkArgument(number > 0 && size > 0, MESSAGE_CONSTRAINTS);
+        this.number = number;
+        this.size = size;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of persons before this page, capped at {@code Integer.MAX_VALUE}.
+     */
+    public int getOffset() {
+        return (int) Math.min((long) (number - 1) * size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of pages that {@code personCount} persons fill, which is at least 1.
+     */
+    public int getPageCount(int personCount) {
+        return Math.max(1, (int) (((long) personCount + size - 1) / size));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Page)) {
+            return false;
+        }
+
+        Page otherPage = (Page) other;
+        return number == otherPage.number && size == otherPage.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, size);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("number", number).add("size", size).toString();
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of one {@code Page} of its source list, which reads through to the source without copying it.
+ * While the page is {@link Page#ALL}, changes to the source are passed on as they are. Otherwise, the elements of
+ * the page are kept to report them as removed, and a change to the source replaces the page as a whole, in time and
+ * memory proportional to the page size. Leaving {@code Page.ALL} reports the whole source as removed through a
+ * read-only view of it, so that the source is not copied; a listener that reads every removed element still pays
+ * for each one it reads.
+ *
+ * @param <E> type of the elements of the list.
+ */
+class PagedList<E> extends TransformationList<E, E> {
+
+    private Page page = Page.ALL;
+    // the elements shown on the current page, kept to report them as removed when it changes, or null while the
+    // page is Page.ALL
+    private List<E> shownElements;
+
+    /**
+     * Creates a view that shows the whole of {@code source}.
+     */
+    PagedList(ObservableList<E> source) {
+        super(source);
+    }
+
+    /**
+     * Shows {@code page} of the source list.
+     */
+    void setPage(Page page) {
+        requireNonNull(page);
+        if (page.equals(this.page)) {
+            return;
+        }
+        List<E> removed = shownElements == null ? Collections.unmodifiableList(getSource()) : shownElements;
+        this.page = page;
+        replacePage(removed);
+    }
+
+    /**
+     * Runs {@code sourceUpdate}, which may change the source list, and then shows {@code page} of the source,
+     * reporting both to listeners as one change.
+     */
+    void update(Page page, Runnable sourceUpdate) {
+        requireAllNonNull(page, sourceUpdate);
+        beginChange();
+        sourceUpdate.run();
+        setPage(page);
+        endChange();
+    }
+
+    Page getPage() {
+        return page;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (shownElements == null) {
+            forwardChange(change);
+        } else {
+            replacePage(shownElements);
+        }
+    }
+
+    /**
+     * Passes on {@code change} to the source as a change to this list, which shows the whole source.
+     */
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports that the elements of the page, previously {@code removed}, have been replaced by its current ones.
+     * The source must not have changed since {@code removed} was taken if it is a view of the source.
+     */
+    private void replacePage(List<E> removed) {
+        shownElements = page.equals(Page.ALL) ? null : new ArrayList<>(this);
+        if (removed.isEmpty() && isEmpty()) {
+            return;
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!isEmpty()) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        int remaining = getSource().size() - page.getOffset();
+        return Math.max(0, Math.min(remaining, page.getSize()));
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return page.getOffset() + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = index - page.getOffset();
+        return viewIndex >= 0 && viewIndex < size() ? viewIndex : -1;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
+
+/**
+ * Running counts of the persons of an address book, from which {@code RosterStatistics} are read.
+ * Adding or removing a person updates a constant number of counters, and reading the statistics takes time
+ * proportional to the number of sessions, not persons.
+ * Removing a person the counts were not given is not detected, and leaves them wrong.
+ */
+class PersonCounts implements SecondaryIndex {
+
+    private int personCount;
+    private final Map<Type, Integer> countsByType = new HashMap<>();
+    private final Map<Session, Map<Type, Integer>> countsBySessionAndType = new HashMap<>();
+    private int missingTelegramUsernameCount;
+
+    @Override
+    public void add(Person person) {
+        personCount++;
+        increment(countsByType, person.getType(), 1);
+        person.getSession().ifPresent(session -> increment(
+                countsBySessionAndType.computeIfAbsent(session, unused -> new HashMap<>()), person.getType(), 1));
+        if (person.getTelegramUsername().isEmpty()) {
+            missingTelegramUsernameCount++;
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        personCount--;
+        increment(countsByType, person.getType(), -1);
+        person.getSession().ifPresent(session -> {
+            Map<Type, Integer> countsByTypeInSession = countsBySessionAndType.get(session);
+            increment(countsByTypeInSession, person.getType(), -1);
+            if (countsByTypeInSession.isEmpty()) {
+                countsBySessionAndType.remove(session);
+            }
+        });
+        if (person.getTelegramUsername().isEmpty()) {
+            missingTelegramUsernameCount--;
+        }
+    }
+
+    @Override
+    public void clear() {
+        personCount = 0;
+        countsByType.clear();
+        countsBySessionAndType.clear();
+        missingTelegramUsernameCount = 0;
+    }
+
+    /**
+     * Returns the current counts.
+     */
+    RosterStatistics toStatistics() {
+        return new RosterStatistics(personCount, countsByType, countsBySessionAndType, missingTelegramUsernameCount);
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code type} in {@code counts}, dropping counts that fall to zero.
+     */
+    private static void increment(Map<Type, Integer> counts, Type type, int delta) {
+        counts.merge(type, delta, (count, unused) -> count + delta == 0 ? null : count + delta);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A hash index from a key derived from a {@code Person} to every person sharing that key.
+ * Persons whose key is {@code null} (e.g. an absent optional field) are not indexed.
+ * An index created with {@link #ofKeys(Function)} files each person under several keys instead, e.g. every word
+ * of their name.
+ *
+ * @param <K> type of the key the persons are indexed by.
+ */
+class PersonIndex<K> implements SecondaryIndex {
+
+    private final Function<Person, ? extends Collection<K>> keysExtractor;
+    private final Map<K, Set<Person>> personsByKey = new HashMap<>();
+
+    private PersonIndex(Function<Person, ? extends Collection<K>> keysExtractor) {
+        requireNonNull(keysExtractor);
+        this.keysExtractor = keysExtractor;
+    }
+
+    /**
+     * Creates an empty index that files each person under {@code keyExtractor.apply(person)}.
+     */
+    static <K> PersonIndex<K> ofKey(Function<Person, K> keyExtractor) {
+        requireNonNull(keyExtractor);
+        return new PersonIndex<>(person -> {
+            K key = keyExtractor.apply(person);
+            return key == null ? List.<K>of() : List.of(key);
+        });
+    }
+
+    /**
+     * Creates an empty index that files each person under every key in {@code keysExtractor.apply(person)}.
+     */
+    static <K> PersonIndex<K> ofKeys(Function<Person, ? extends Collection<K>> keysExtractor) {
+        return new PersonIndex<>(keysExtractor);
+    }
+
+    @Override
+    public void add(Person person) {
+        for (K key : keysExtractor.apply(person)) {
+            personsByKey.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (K key : keysExtractor.apply(person)) {
+            Set<Person> persons = personsByKey.get(key);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByKey.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByKey.clear();
+    }
+
+    /**
+     * Returns the number of persons filed under {@code key}.
+     */
+    int count(K key) {
+        requireNonNull(key);
+        Set<Person> persons = personsByKey.get(key);
+        return persons == null ? 0 : persons.size();
+    }
+
+    /**
+     * Returns the persons filed under {@code key}, in the order they were indexed.
+     */
+    List<Person> get(K key) {
+        requireNonNull(key);
+        Set<Person> persons = personsByKey.get(key);
+        return persons == null ? List.of() : List.copyOf(persons);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringKeyIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * An index that files each person under string keys derived from them, such as the words of their name, in a
+ * {@code StringKeyIndex} that answers the lookups, such as a {@code PrefixTree} for prefix lookups.
+ *
+ * @param <S> type of the structure the keys are filed in.
+ */
+class PersonStringIndex<S extends StringKeyIndex<Person>> implements SecondaryIndex {
+
+    private final S personsByKey;
+    private final Function<Person, ? extends Collection<String>> keysExtractor;
+
+    /**
+     * Creates an index that files each person in {@code personsByKey}, which must be empty, under every key in
+     * {@code keysExtractor.apply(person)}.
+     */
+    PersonStringIndex(S personsByKey, Function<Person, ? extends Collection<String>> keysExtractor) {
+        requireNonNull(personsByKey);
+        requireNonNull(keysExtractor);
+        this.personsByKey = personsByKey;
+        this.keysExtractor = keysExtractor;
+    }
+
+    @Override
+    public void add(Person person) {
+        for (String key : keysExtractor.apply(person)) {
+            personsByKey.add(key, person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (String key : keysExtractor.apply(person)) {
+            personsByKey.remove(key, person);
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByKey.clear();
+    }
+
+    /**
+     * Returns the persons that {@code lookup} finds in the structure the keys are filed in. The lookup must not
+     * modify the structure.
+     */
+    List<Person> find(Function<? super S, List<Person>> lookup) {
+        requireNonNull(lookup);
+        return lookup.apply(personsByKey);
+    }
+}
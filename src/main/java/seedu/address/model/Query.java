@@ -0,0 +1,311 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A boolean combination of {@code IndexedPredicate} criteria, e.g. {@code (s/G17 or s/G18) and not n/Tan}.
+ * A query is built once by the parser, folded by {@link #simplify()} and compiled against an address book by
+ * {@link #compile(AddressBook)} into a single predicate that tests each person in one short-circuiting pass.
+ * Queries are immutable.
+ */
+public abstract class Query {
+
+    /** The query that every person satisfies. */
+    public static final Query TRUE = new And(List.of());
+
+    /** The query that no person satisfies. */
+    public static final Query FALSE = new Or(List.of());
+
+    /**
+     * Returns the query that a person satisfies {@code criterion}.
+     */
+    public static Query of(IndexedPredicate criterion) {
+        return new Term(criterion);
+    }
+
+    /**
+     * Returns the query that a person satisfies all of {@code clauses}.
+     */
+    public static Query and(List<Query> clauses) {
+        return new And(clauses);
+    }
+
+    /**
+     * Returns the query that a person satisfies any of {@code clauses}.
+     */
+    public static Query or(List<Query> clauses) {
+        return new Or(clauses);
+    }
+
+    /**
+     * Returns the query that a person does not satisfy {@code operand}.
+     */
+    public static Query not(Query operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * Returns an equivalent query with constants folded away: nested conjunctions and disjunctions are flattened,
+     * repeated clauses and double negations are removed, and a clause that decides its conjunction or disjunction
+     * on its own, such as {@link #FALSE} or both a clause and its negation in a conjunction, replaces it.
+     */
+    public abstract Query simplify();
+
+    /**
+     * Returns a predicate that tests this query, with the clauses of each conjunction and disjunction ordered by
+     * their estimated count in {@code addressBook} so that testing a person stops as early as possible.
+     */
+    public abstract IndexedPredicate compile(AddressBook addressBook);
+
+    /**
+     * A query that a person satisfies a single criterion.
+     */
+    private static final class Term extends Query {
+        private final IndexedPredicate criterion;
+
+        Term(IndexedPredicate criterion) {
+            requireNonNull(criterion);
+            this.criterion = criterion;
+        }
+
+        @Override
+        public Query simplify() {
+            return this;
+        }
+
+        @Override
+        public IndexedPredicate compile(AddressBook addressBook) {
+            return criterion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Term)) {
+                return false;
+            }
+
+            Term otherTerm = (Term) other;
+            return criterion.equals(otherTerm.criterion);
+        }
+
+        @Override
+        public int hashCode() {
+            return criterion.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return criterion.toString();
+        }
+    }
+
+    /**
+     * A query that a person does not satisfy its operand.
+     */
+    private static final class Not extends Query {
+        private final Query operand;
+
+        Not(Query operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        @Override
+        public Query simplify() {
+            Query simplified = operand.simplify();
+            if (simplified instanceof Not) {
+                return ((Not) simplified).operand;
+            }
+            if (simplified.equals(TRUE)) {
+                return FALSE;
+            }
+            if (simplified.equals(FALSE)) {
+                return TRUE;
+            }
+            return new Not(simplified);
+        }
+
+        @Override
+        public IndexedPredicate compile(AddressBook addressBook) {
+            return new NotMatchPredicate(operand.compile(addressBook));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Not)) {
+                return false;
+            }
+
+            Not otherNot = (Not) other;
+            return operand.equals(otherNot.operand);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Not.class, operand);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("operand", operand).toString();
+        }
+    }
+
+    /**
+     * A conjunction or disjunction of clauses.
+     */
+    private abstract static class Junction extends Query {
+        protected final List<Query> clauses;
+
+        Junction(List<Query> clauses) {
+            requireNonNull(clauses);
+            this.clauses = List.copyOf(clauses);
+        }
+
+        /**
+         * Returns a junction of the same kind over {@code clauses}.
+         */
+        abstract Junction withClauses(List<Query> clauses);
+
+        /**
+         * Returns the constant that decides a junction of this kind when it appears as a clause.
+         */
+        abstract Query getAbsorbingElement();
+
+        @Override
+        public Query simplify() {
+            List<Query> flattened = new ArrayList<>();
+            for (Query clause : clauses) {
+                Query simplified = clause.simplify();
+                if (simplified.getClass() == getClass()) {
+                    flattened.addAll(((Junction) simplified).clauses);
+                } else {
+                    flattened.add(simplified);
+                }
+            }
+
+            Query absorbingElement = getAbsorbingElement();
+            List<Query> distinct = new ArrayList<>();
+            for (Query clause : flattened) {
+                if (clause.equals(absorbingElement) || flattened.contains(new Not(clause))) {
+                    return absorbingElement;
+                }
+                if (!distinct.contains(clause)) {
+                    distinct.add(clause);
+                }
+            }
+            return distinct.size() == 1 ? distinct.get(0) : withClauses(distinct);
+        }
+
+        /**
+         * Returns the compiled clauses ordered by their estimated count in {@code addressBook}.
+         */
+        List<IndexedPredicate> compileClauses(AddressBook addressBook,
+                Comparator<Integer> estimateOrder) {
+            List<IndexedPredicate> compiled = new ArrayList<>();
+            for (Query clause : clauses) {
+                compiled.add(clause.compile(addressBook));
+            }
+            compiled.sort(Comparator.comparing(criterion -> criterion.estimateCount(addressBook), estimateOrder));
+            return compiled;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // a conjunction never equals a disjunction over the same clauses
+            if (other == null || other.getClass() != getClass()) {
+                return false;
+            }
+
+            Junction otherJunction = (Junction) other;
+            return clauses.equals(otherJunction.clauses);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getClass(), clauses);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("clauses", clauses).toString();
+        }
+    }
+
+    /**
+     * A query that a person satisfies all of its clauses.
+     */
+    private static final class And extends Junction {
+        And(List<Query> clauses) {
+            super(clauses);
+        }
+
+        @Override
+        Junction withClauses(List<Query> clauses) {
+            return new And(clauses);
+        }
+
+        @Override
+        Query getAbsorbingElement() {
+            return FALSE;
+        }
+
+        /**
+         * {@inheritDoc}
+         * The most selective clause is tested first, as it is the most likely to fail.
+         */
+        @Override
+        public IndexedPredicate compile(AddressBook addressBook) {
+            return new AllMatchPredicate(compileClauses(addressBook, Comparator.naturalOrder()));
+        }
+    }
+
+    /**
+     * A query that a person satisfies any of its clauses.
+     */
+    private static final class Or extends Junction {
+        Or(List<Query> clauses) {
+            super(clauses);
+        }
+
+        @Override
+        Junction withClauses(List<Query> clauses) {
+            return new Or(clauses);
+        }
+
+        @Override
+        Query getAbsorbingElement() {
+            return TRUE;
+        }
+
+        /**
+         * {@inheritDoc}
+         * The least selective clause is tested first, as it is the most likely to succeed.
+         */
+        @Override
+        public IndexedPredicate compile(AddressBook addressBook) {
+            return new AnyMatchPredicate(compileClauses(addressBook, Comparator.reverseOrder()));
+        }
+    }
+}
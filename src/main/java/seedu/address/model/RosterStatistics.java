@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
+
+/**
+ * Counts of the persons in an address book: by type, by session, by type within each session, and of the persons
+ * without a Telegram username.
+ * Guarantees: immutable.
+ */
+public class RosterStatistics {
+
+    private final int personCount;
+    private final Map<Type, Integer> countsByType;
+    private final TreeMap<Session, Map<Type, Integer>> countsBySessionAndType;
+    private final int missingTelegramUsernameCount;
+
+    /**
+     * Creates statistics from the given counts, which are copied. Types and sessions without persons may be left out.
+     */
+    RosterStatistics(int personCount, Map<Type, Integer> countsByType,
+            Map<Session, ? extends Map<Type, Integer>> countsBySessionAndType, int missingTelegramUsernameCount) {
+        requireNonNull(countsByType);
+        requireNonNull(countsBySessionAndType);
+        this.personCount = personCount;
+        this.countsByType = new HashMap<>(countsByType);
+        this.countsBySessionAndType = new TreeMap<>();
+        countsBySessionAndType.forEach((session, counts) ->
+                this.countsBySessionAndType.put(session, Map.copyOf(counts)));
+        this.missingTelegramUsernameCount = missingTelegramUsernameCount;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the number of persons of the given {@code type}.
+     */
+    public int getCount(Type type) {
+        return countsByType.getOrDefault(type, 0);
+    }
+
+    /**
+     * Returns the sessions that at least one person is assigned to, in order.
+     */
+    public List<Session> getSessions() {
+        return new ArrayList<>(countsBySessionAndType.keySet());
+    }
+
+    /**
+     * Returns the number of persons assigned to {@code session}.
+     */
+    public int getCount(Session session) {
+        return countsBySessionAndType.getOrDefault(session, Map.of()).values().stream()
+                .mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the number of persons of the given {@code type} assigned to {@code session}.
+     */
+    public int getCount(Session session, Type type) {
+        return countsBySessionAndType.getOrDefault(session, Map.of()).getOrDefault(type, 0);
+    }
+
+    public int getMissingTelegramUsernameCount() {
+        return missingTelegramUsernameCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RosterStatistics)) {
+            return false;
+        }
+
+        RosterStatistics otherStatistics = (RosterStatistics) other;
+        return personCount == otherStatistics.personCount
+                && countsByType.equals(otherStatistics.countsByType)
+                && countsBySessionAndType.equals(otherStatistics.countsBySessionAndType)
+                && missingTelegramUsernameCount == otherStatistics.missingTelegramUsernameCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personCount, countsByType, countsBySessionAndType, missingTelegramUsernameCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", personCount)
+                .add("countsByType", countsByType)
+                .add("countsBySessionAndType", countsBySessionAndType)
+                .add("missingTelegramUsernameCount", missingTelegramUsernameCount)
+                .toString();
+    }
+}
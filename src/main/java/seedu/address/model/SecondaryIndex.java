@@ -0,0 +1,24 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index over the persons of an address book that is kept in sync with its person list.
+ */
+interface SecondaryIndex {
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person);
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person);
+
+    /**
+     * Empties the index.
+     */
+    void clear();
+}
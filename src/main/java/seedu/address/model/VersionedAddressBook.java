@@ -0,0 +1,227 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * {@code AddressBook} that keeps a bounded history of its states to support undo and redo.
+ * Each state is an O(1) snapshot that shares structure with its neighbours, so a state only costs memory for the
+ * parts of the address book that changed since the previous state. Each state also records the persons removed and
+ * added since the previous state, so that undoing or redoing it only reindexes those persons.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** Maximum number of commits that can be undone. Older states are discarded. */
+    public static final int MAX_UNDO_STEPS = 100;
+
+    private final List<AddressBookSnapshot> addressBookStateList = new ArrayList<>();
+    // the change from the previous state to each state, at the same position as the state; the first is unused
+    private final List<Change> changeList = new ArrayList<>();
+    private int currentStatePointer;
+    // the change since the current state was committed, undone or redone
+    private Change pendingChange = new Change();
+
+    /**
+     * Creates a {@code VersionedAddressBook} using the Persons in {@code initialState}, with no history.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        // the persons are set only once the fields that record changes to them are initialized
+        super();
+        resetData(initialState);
+        addressBookStateList.add(takeSnapshot());
+        changeList.add(new Change());
+        pendingChange = new Change();
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Saves the current address book state in the history.
+     * Undone states are purged from the history, and the oldest state is discarded once the history is full.
+     */
+    public void commit() {
+        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        changeList.subList(currentStatePointer + 1, changeList.size()).clear();
+        addressBookStateList.add(takeSnapshot());
+        changeList.add(pendingChange);
+        pendingChange = new Change();
+        currentStatePointer++;
+
+        if (addressBookStateList.size() > MAX_UNDO_STEPS + 1) {
+            addressBookStateList.remove(0);
+            changeList.remove(0);
+            currentStatePointer--;
+        }
+    }
+
+    /**
+     * Restores the address book to its previous state.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        Change change = pendingChange.inverse();
+        change.recordAll(changeList.get(currentStatePointer).inverse());
+        currentStatePointer--;
+        restore(change);
+    }
+
+    /**
+     * Restores the address book to its previously undone state.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        Change change = pendingChange.inverse();
+        currentStatePointer++;
+        change.recordAll(changeList.get(currentStatePointer));
+        restore(change);
+    }
+
+    /**
+     * Restores the address book to the current state, which {@code change} leads to from its contents.
+     */
+    private void restore(Change change) {
+        restorePersons(addressBookStateList.get(currentStatePointer).getPersons(), change.removed, change.added);
+        pendingChange = new Change();
+    }
+
+    private AddressBookSnapshot takeSnapshot() {
+        return (AddressBookSnapshot) getSnapshot();
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        Map<Person, Long> previous = new HashMap<>();
+        getPersonList().forEach(person -> previous.put(person, getSequenceNumber(person)));
+        super.setPersons(persons);
+        // recorded only once the persons are set, as setting them fails on duplicates without changing anything
+        previous.forEach(pendingChange::recordRemoved);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        Map<Person, Long> removed = sequenceNumbersOf(List.of(target));
+        super.setPerson(target, editedPerson);
+        removed.forEach(pendingChange::recordRemoved);
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        Map<Person, Long> removed = sequenceNumbersOf(List.of(key));
+        super.removePerson(key);
+        removed.forEach(pendingChange::recordRemoved);
+    }
+
+    @Override
+    public void removePersons(Collection<Person> toRemove) {
+        Map<Person, Long> removed = sequenceNumbersOf(toRemove);
+        super.removePersons(toRemove);
+        removed.forEach(pendingChange::recordRemoved);
+    }
+
+    @Override
+    public void replacePersons(Map<Person, Person> replacements) {
+        Map<Person, Long> removed = sequenceNumbersOf(replacements.keySet());
+        super.replacePersons(replacements);
+        removed.forEach(pendingChange::recordRemoved);
+    }
+
+    @Override
+    protected void index(Person person) {
+        super.index(person);
+        pendingChange.recordAdded(person, getSequenceNumber(person));
+    }
+
+    /**
+     * Returns the sequence numbers of those of {@code persons} that are in the address book, taken before they are
+     * removed so that undoing the removal puts them back in place.
+     */
+    private Map<Person, Long> sequenceNumbersOf(Collection<Person> persons) {
+        Map<Person, Long> sequenceNumbers = new HashMap<>();
+        for (Person person : persons) {
+            if (person != null && indexOf(person) >= 0) {
+                sequenceNumbers.put(person, getSequenceNumber(person));
+            }
+        }
+        return sequenceNumbers;
+    }
+
+    /**
+     * Returns true if {@code undo()} has address book states to undo.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if {@code redo()} has address book states to redo.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < addressBookStateList.size() - 1;
+    }
+
+    /**
+     * The persons removed from and added to the address book between two of its contents, each with its sequence
+     * number. A person that is added and then removed again with the same sequence number, or the other way round,
+     * cancels out.
+     */
+    private static final class Change {
+        private final Map<Person, Long> removed = new HashMap<>();
+        private final Map<Person, Long> added = new HashMap<>();
+
+        void recordRemoved(Person person, long sequenceNumber) {
+            if (!added.remove(person, sequenceNumber)) {
+                removed.put(person, sequenceNumber);
+            }
+        }
+
+        void recordAdded(Person person, long sequenceNumber) {
+            if (!removed.remove(person, sequenceNumber)) {
+                added.put(person, sequenceNumber);
+            }
+        }
+
+        /**
+         * Records {@code next}, a change that follows this one.
+         */
+        void recordAll(Change next) {
+            next.removed.forEach(this::recordRemoved);
+            next.added.forEach(this::recordAdded);
+        }
+
+        /**
+         * Returns the change that reverts this one.
+         */
+        Change inverse() {
+            Change inverse = new Change();
+            inverse.removed.putAll(added);
+            inverse.added.putAll(removed);
+            return inverse;
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of addressBookState list, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of addressBookState list, unable to redo.");
+        }
+    }
+}
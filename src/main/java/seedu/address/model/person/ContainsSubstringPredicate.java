@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
+
+/**
+ * Tests that the name, email or Telegram username of a {@code Person} contains any of the substrings given,
+ * ignoring case, e.g. "oli" in "Charlotte Oliveiro" or "@u.nus.edu" in an email.
+ * Matches are resolved through the address book's trigram index on those fields.
+ *
+ * @see Person#getSubstringSearchableFields()
+ */
+public class ContainsSubstringPredicate implements IndexedPredicate {
+    private final List<String> substrings;
+
+    /**
+     * Creates a predicate that matches a person with a searched field containing any of the {@code substrings}.
+     */
+    public ContainsSubstringPredicate(List<String> substrings) {
+        this.substrings = substrings;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> fields = person.getSubstringSearchableFields();
+        for (String substring : substrings) {
+            for (String field : fields) {
+                if (StringUtil.containsSubstringIgnoreCase(field, substring)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (String substring : substrings) {
+            matches.addAll(addressBook.getPersonsContaining(substring));
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A substring predicate refines another if each of its substrings contains one of the other's.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (other instanceof ContainsSubstringPredicate) {
+            List<String> otherSubstrings = ((ContainsSubstringPredicate) other).substrings;
+            if (substrings.stream().allMatch(substring -> otherSubstrings.stream()
+                    .anyMatch(otherSubstring -> StringUtil.containsSubstringIgnoreCase(substring, otherSubstring)))) {
+                return true;
+            }
+        }
+        return IndexedPredicate.super.refines(other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContainsSubstringPredicate)) {
+            return false;
+        }
+
+        ContainsSubstringPredicate otherContainsSubstringPredicate = (ContainsSubstringPredicate) other;
+        return substrings.equals(otherContainsSubstringPredicate.substrings);
+    }
+
+    @Override
+    public int hashCode() {
+        return substrings.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("substrings", substrings).toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -46,9 +47,66 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, in linear time and without allocating. Matching the regex
+     * itself can backtrack exponentially on long domains because of its nested repetitions.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        if (at < 0 || test.indexOf('@', at + 1) >= 0 || !isValidLocalPart(test, 0, at)) {
+            return false;
+        }
+
+        int labelStart = at + 1;
+        int dot = test.indexOf('.', labelStart);
+        while (dot >= 0) {
+            if (longestAlphanumericRun(test, labelStart, dot) == 0) {
+                return false;
+            }
+            labelStart = dot + 1;
+            dot = test.indexOf('.', labelStart);
+        }
+        // the last part is two or more labels run together, so it needs two adjacent alphanumeric characters
+        return longestAlphanumericRun(test, labelStart, test.length()) >= 2;
+    }
+
+    /**
+     * Returns true if {@code test[from, to)} is runs of alphanumeric characters separated by single special
+     * characters.
+     */
+    private static boolean isValidLocalPart(String test, int from, int to) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = from; i < to; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns the length of the longest run of alphanumeric characters in {@code test[from, to)} if that range is a
+     * domain label (runs of alphanumeric characters separated by single hyphens), or 0 if it is not.
+     */
+    private static int longestAlphanumericRun(String test, int from, int to) {
+        int longestRun = 0;
+        int run = 0;
+        for (int i = from; i < to; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                run++;
+                longestRun = Math.max(longestRun, run);
+            } else if (c == '-' && run > 0) {
+                run = 0;
+            } else {
+                return 0;
+            }
+        }
+        return run > 0 ? longestRun : 0;
     }
 
     @Override
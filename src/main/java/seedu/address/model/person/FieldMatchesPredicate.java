@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
+
+/**
+ * Tests that a field of a {@code Person} equals any of the values given.
+ * Matches are resolved by looking up each value in the address book's index on that field.
+ *
+ * @param <T> type of the field.
+ */
+public class FieldMatchesPredicate<T> implements IndexedPredicate {
+    private final String fieldName;
+    private final List<T> values;
+    private final Function<Person, Optional<T>> fieldGetter;
+    private final BiFunction<AddressBook, T, List<Person>> lookup;
+    private final ToIntBiFunction<AddressBook, T> counter;
+
+    private FieldMatchesPredicate(String fieldName, List<T> values, Function<Person, Optional<T>> fieldGetter,
+            BiFunction<AddressBook, T, List<Person>> lookup, ToIntBiFunction<AddressBook, T> counter) {
+        requireNonNull(values);
+        this.fieldName = fieldName;
+        this.values = values;
+        this.fieldGetter = fieldGetter;
+        this.lookup = lookup;
+        this.counter = counter;
+    }
+
+    /**
+     * Returns a predicate that tests that a person has any of the given {@code phones}.
+     */
+    public static FieldMatchesPredicate<Phone> ofPhones(List<Phone> phones) {
+        return new FieldMatchesPredicate<>("phones", phones, person -> Optional.of(person.getPhone()),
+                AddressBook::getPersonsWithPhone, (addressBook, phone) ->
+                        addressBook.getPersonsWithPhone(phone).size());
+    }
+
+    /**
+     * Returns a predicate that tests that a person has any of the given {@code emails}.
+     */
+    public static FieldMatchesPredicate<Email> ofEmails(List<Email> emails) {
+        return new FieldMatchesPredicate<>("emails", emails, person -> Optional.of(person.getEmail()),
+                AddressBook::getPersonsWithEmail, (addressBook, email) ->
+                        addressBook.getPersonsWithEmail(email).size());
+    }
+
+    /**
+     * Returns a predicate that tests that a person is of any of the given {@code types}.
+     */
+    public static FieldMatchesPredicate<Type> ofTypes(List<Type> types) {
+        return new FieldMatchesPredicate<>("types", types, person -> Optional.of(person.getType()),
+                AddressBook::getPersonsOfType, AddressBook::countPersonsOfType);
+    }
+
+    /**
+     * Returns a predicate that tests that a person is assigned to any of the given {@code sessions}.
+     */
+    public static FieldMatchesPredicate<Session> ofSessions(List<Session> sessions) {
+        return new FieldMatchesPredicate<>("sessions", sessions, Person::getSession,
+                AddressBook::getPersonsInSession, AddressBook::countPersonsInSession);
+    }
+
+    /**
+     * Returns a predicate that tests that a person has any of the given {@code telegramUsernames}.
+     */
+    public static FieldMatchesPredicate<TelegramUsername> ofTelegramUsernames(
+            List<TelegramUsername> telegramUsernames) {
+        return new FieldMatchesPredicate<>("telegramUsernames", telegramUsernames, Person::getTelegramUsername,
+                AddressBook::getPersonsWithTelegramUsername, (addressBook, telegramUsername) ->
+                        addressBook.getPersonsWithTelegramUsername(telegramUsername).size());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return fieldGetter.apply(person).filter(values::contains).isPresent();
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (T value : values) {
+            matches.addAll(lookup.apply(addressBook, value));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateCount(AddressBook addressBook) {
+        int count = 0;
+        for (T value : values) {
+            count += counter.applyAsInt(addressBook, value);
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A predicate refines another on the same field that accepts at least the same values.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (other instanceof FieldMatchesPredicate) {
+            FieldMatchesPredicate<?> otherFieldMatchesPredicate = (FieldMatchesPredicate<?>) other;
+            if (fieldName.equals(otherFieldMatchesPredicate.fieldName)
+                    && otherFieldMatchesPredicate.values.containsAll(values)) {
+                return true;
+            }
+        }
+        return IndexedPredicate.super.refines(other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldMatchesPredicate)) {
+            return false;
+        }
+
+        FieldMatchesPredicate<?> otherFieldMatchesPredicate = (FieldMatchesPredicate<?>) other;
+        return fieldName.equals(otherFieldMatchesPredicate.fieldName)
+                && values.equals(otherFieldMatchesPredicate.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, values);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add(fieldName, values).toString();
+    }
+}
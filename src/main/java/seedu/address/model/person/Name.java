@@ -2,12 +2,21 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
+ * Names are ordered alphabetically, ignoring case.
  */
-public class Name {
+public class Name implements Comparable<Name> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters and spaces, and it should not be blank";
@@ -20,6 +29,11 @@ public class Name {
 
     public final String fullName;
 
+    // computed on first use; a race only computes the same immutable value twice
+    private List<String> caseFoldedWords;
+    private String caseFoldedName;
+    private List<String> phoneticCodes;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -33,12 +47,88 @@ public class Name {
 
     /**
      * Returns true if a given string is a valid name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, in one pass and without allocating.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
+    /**
+     * Returns the space-separated words of this name, each case-folded with {@link StringUtil#foldCase(String)}.
+     * The returned list is unmodifiable.
+     */
+    public List<String> getCaseFoldedWords() {
+        if (caseFoldedWords == null) {
+            List<String> words = new ArrayList<>();
+            for (String word : fullName.split(" ")) {
+                if (!word.isEmpty()) {
+                    words.add(StringUtil.foldCase(word));
+                }
+            }
+            caseFoldedWords = List.copyOf(words);
+        }
+        return caseFoldedWords;
+    }
+
+    /**
+     * Returns the distinct phonetic codes of the words of this name, as computed by
+     * {@link StringUtil#phoneticCode(String)}. Words without letters have no code.
+     * The returned list is unmodifiable.
+     */
+    public List<String> getPhoneticCodes() {
+        if (phoneticCodes == null) {
+            Set<String> codes = new LinkedHashSet<>();
+            for (String word : getCaseFoldedWords()) {
+                String code = StringUtil.phoneticCode(word);
+                if (!code.isEmpty()) {
+                    codes.add(code);
+                }
+            }
+            phoneticCodes = List.copyOf(codes);
+        }
+        return phoneticCodes;
+    }
+
+    /**
+     * Returns this name starting from each of its words, case-folded and with the words joined by single spaces,
+     * e.g. "alex yeoh" and "yeoh" for "Alex Yeoh".
+     * A string starts one of these suffixes if it starts a word, or a run of words, of this name.
+     */
+    public List<String> getCaseFoldedWordSuffixes() {
+        List<String> words = getCaseFoldedWords();
+        List<String> suffixes = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            suffixes.add(String.join(" ", words.subList(i, words.size())));
+        }
+        return suffixes;
+    }
+
+    /**
+     * Returns this name case-folded with {@link StringUtil#foldCase(String)}.
+     */
+    public String getCaseFoldedName() {
+        if (caseFoldedName == null) {
+            caseFoldedName = StringUtil.foldCase(fullName);
+        }
+        return caseFoldedName;
+    }
+
+    @Override
+    public int compareTo(Name other) {
+        int ignoringCase = getCaseFoldedName().compareTo(other.getCaseFoldedName());
+        return ignoringCase != 0 ? ignoringCase : fullName.compareTo(other.fullName);
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -1,25 +1,114 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword ending with {@value #PREFIX_WILDCARD} matches any word that starts with the rest of the keyword.
+ * Matches are resolved by looking up each keyword in the address book's index of name words, or of name prefixes.
+ * The keywords are case-folded once, so testing a person is a single pass over the words of their name.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
+    private final Set<String> foldedWords = new HashSet<>();
+    private final List<String> foldedPrefixes = new ArrayList<>();
 
+    /**
+     * Creates a predicate that matches a name with any of the {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            if (isPrefixKeyword(keyword)) {
+                foldedPrefixes.add(StringUtil.foldCase(stripWildcard(keyword)));
+            } else {
+                foldedWords.add(StringUtil.foldCase(keyword));
+            }
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        for (String nameWord : person.getName().getCaseFoldedWords()) {
+            if (foldedWords.contains(nameWord)) {
+                return true;
+            }
+            for (String foldedPrefix : foldedPrefixes) {
+                if (nameWord.startsWith(foldedPrefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(isPrefixKeyword(keyword)
+                    ? addressBook.getPersonsWithNamePrefix(stripWildcard(keyword))
+                    : addressBook.getPersonsWithNameWord(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Keywords ending with {@value #PREFIX_WILDCARD} are assumed to match every person.
+     */
+    @Override
+    public int estimateCount(AddressBook addressBook) {
+        int rosterSize = addressBook.getPersonList().size();
+        long count = 0;
+        for (String keyword : keywords) {
+            count += isPrefixKeyword(keyword) ? rosterSize : addressBook.countPersonsWithNameWord(keyword);
+        }
+        return (int) Math.min(count, rosterSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * A predicate refines another whose keywords cover each of its own: a word is covered by the same word, or by a
+     * prefix keyword it starts with, and a prefix keyword is covered by a shorter prefix keyword it starts with.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (other instanceof NameContainsKeywordsPredicate) {
+            NameContainsKeywordsPredicate otherPredicate = (NameContainsKeywordsPredicate) other;
+            if (foldedWords.stream().allMatch(otherPredicate::coversWord)
+                    && foldedPrefixes.stream().allMatch(otherPredicate::coversPrefix)) {
+                return true;
+            }
+        }
+        return IndexedPredicate.super.refines(other);
+    }
+
+    private boolean coversWord(String foldedWord) {
+        return foldedWords.contains(foldedWord) || coversPrefix(foldedWord);
+    }
+
+    private boolean coversPrefix(String foldedPrefix) {
+        return foldedPrefixes.stream().anyMatch(foldedPrefix::startsWith);
+    }
+
+    private static boolean isPrefixKeyword(String keyword) {
+        return keyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    private static String stripWildcard(String keyword) {
+        return keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length());
     }
 
     @Override
@@ -37,6 +126,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word within a few edits of any of the keywords given, ignoring
+ * case. Keywords of up to two characters must match exactly, keywords of three characters may be one edit away and
+ * longer keywords two edits away.
+ * Matches are resolved through the address book's edit-distance index of name words.
+ */
+public class NameFuzzyMatchPredicate implements IndexedPredicate {
+    private final List<String> keywords;
+
+    public NameFuzzyMatchPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the largest number of edits a name word may be away from {@code keyword} and still match it.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() == 3 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> nameWords = person.getName().getCaseFoldedWords();
+        return keywords.stream().anyMatch(keyword -> getDistance(keyword, nameWords) <= getMaxDistance(keyword));
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(addressBook.getPersonsWithNameWordWithin(keyword, getMaxDistance(keyword)));
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A fuzzy predicate refines another whose keywords include all of its own.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return (other instanceof NameFuzzyMatchPredicate
+                && ((NameFuzzyMatchPredicate) other).keywords.containsAll(keywords))
+                || IndexedPredicate.super.refines(other);
+    }
+
+    /**
+     * Returns a comparator that ranks persons by how closely their name matches the keywords, closest first.
+     * A person's score is the sum over the keywords of the distance to the nearest word of their name, where a
+     * keyword that is not matched counts one more than its largest allowed distance.
+     */
+    public Comparator<Person> getRanking() {
+        return Comparator.comparingInt(this::getScore);
+    }
+
+    private int getScore(Person person) {
+        List<String> nameWords = person.getName().getCaseFoldedWords();
+        int score = 0;
+        for (String keyword : keywords) {
+            score += Math.min(getDistance(keyword, nameWords), getMaxDistance(keyword) + 1);
+        }
+        return score;
+    }
+
+    /**
+     * Returns the edit distance from {@code keyword} to the nearest of the case-folded {@code nameWords}.
+     */
+    private static int getDistance(String keyword, List<String> nameWords) {
+        String foldedKeyword = StringUtil.foldCase(keyword);
+        int distance = Integer.MAX_VALUE;
+        for (String word : nameWords) {
+            distance = Math.min(distance, StringUtil.editDistance(foldedKeyword, word));
+        }
+        return distance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameFuzzyMatchPredicate)) {
+            return false;
+        }
+
+        NameFuzzyMatchPredicate otherNameFuzzyMatchPredicate = (NameFuzzyMatchPredicate) other;
+        return keywords.equals(otherNameFuzzyMatchPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word that sounds like any of the keywords given, i.e. shares its
+ * phonetic code, as "Li" does with "Lee".
+ * Matches are resolved by looking up each keyword's code in the address book's index of phonetic codes.
+ *
+ * @see StringUtil#phoneticCode(String)
+ */
+public class NamePhoneticMatchPredicate implements IndexedPredicate {
+    private final List<String> keywords;
+    private final Set<String> codes = new HashSet<>();
+
+    /**
+     * Creates a predicate that matches a name with a word sounding like any of the {@code keywords}.
+     */
+    public NamePhoneticMatchPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        for (String keyword : keywords) {
+            codes.add(StringUtil.phoneticCode(keyword));
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String code : person.getName().getPhoneticCodes()) {
+            if (codes.contains(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> resolve(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(addressBook.getPersonsWithNameSoundingLike(keyword));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateCount(AddressBook addressBook) {
+        long count = 0;
+        for (String keyword : keywords) {
+            count += addressBook.countPersonsWithNameSoundingLike(keyword);
+        }
+        return (int) Math.min(count, addressBook.getPersonList().size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * A phonetic predicate refines another whose keywords include a sound-alike of each of its own.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return (other instanceof NamePhoneticMatchPredicate
+                && ((NamePhoneticMatchPredicate) other).codes.containsAll(codes))
+                || IndexedPredicate.super.refines(other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NamePhoneticMatchPredicate)) {
+            return false;
+        }
+
+        NamePhoneticMatchPredicate otherNamePhoneticMatchPredicate = (NamePhoneticMatchPredicate) other;
+        return keywords.equals(otherNamePhoneticMatchPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -94,6 +95,15 @@ public class Person {
         return type;
     }
 
+    /**
+     * Returns the fields searched for substrings: the name, the email and the Telegram username, if any.
+     */
+    public List<String> getSubstringSearchableFields() {
+        return telegramUsername
+                .map(username -> List.of(name.fullName, email.value, username.value))
+                .orElseGet(() -> List.of(name.fullName, email.value));
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
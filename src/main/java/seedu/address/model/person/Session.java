@@ -2,19 +2,30 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Person's session number in TAConnect.
  * Guarantees: immutable; is valid as declared in {@link #isValidSession(String)}
+ * Sessions come from a small closed domain, so {@link #of(String)} hands out one shared instance per session.
+ * Sessions are ordered by letter and then by number, so G2 comes before G17.
  */
-public class Session {
-
+public class Session implements Comparable<Session> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Sessions should start with a capital letter followed by 1–2 digits (e.g., G17, F7).";
     public static final String VALIDATION_REGEX = "[A-Z]\\d{1,2}";
+
+    private static final Map<String, Session> POOL = new ConcurrentHashMap<>();
+
     public final String value;
 
+    // the letter and number combined into one integer, so that comparing sessions needs no parsing
+    private final int sortKey;
+
     /**
      * Constructs a {@code Session}.
      *
@@ -24,13 +35,43 @@ public class Session {
         requireNonNull(session);
         checkArgument(isValidSession(session), MESSAGE_CONSTRAINTS);
         this.value = session;
+        this.sortKey = session.charAt(0) * 1000 + Integer.parseInt(session.substring(1));
+    }
+
+    /**
+     * Returns the shared {@code Session} for {@code session}.
+     *
+     * @param session A valid session number.
+     */
+    public static Session of(String session) {
+        requireNonNull(session);
+        Session pooled = POOL.get(session);
+        if (pooled != null) {
+            return pooled;
+        }
+        checkArgument(isValidSession(session), MESSAGE_CONSTRAINTS);
+        return POOL.computeIfAbsent(session, Session::new);
     }
 
     /**
      * Returns true if a given string is a valid session number.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without allocating.
      */
     public static boolean isValidSession(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int length = test.length();
+        if (length < 2 || length > 3) {
+            return false;
+        }
+        char letter = test.charAt(0);
+        return letter >= 'A' && letter <= 'Z'
+                && isAsciiDigit(test.charAt(1))
+                && (length == 2 || isAsciiDigit(test.charAt(2)));
+    }
+
+    @Override
+    public int compareTo(Session other) {
+        int byNumber = Integer.compare(sortKey, other.sortKey);
+        return byNumber != 0 ? byNumber : value.compareTo(other.value);
     }
 
     @Override
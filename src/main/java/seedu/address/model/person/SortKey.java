@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A field that persons can be sorted by.
+ * Each field compares keys precomputed by its value class, such as a name's case-folded form, so that sorting
+ * a large roster does not recompute them on every comparison.
+ */
+public enum SortKey {
+    NAME(Comparator.comparing(Person::getName)),
+    SESSION(Comparator.comparing((Person person) -> person.getSession().orElse(null),
+            Comparator.nullsLast(Comparator.naturalOrder()))),
+    TYPE(Comparator.comparing(Person::getType));
+
+    public static final String MESSAGE_CONSTRAINTS = "Persons can be sorted by name, session or type.";
+
+    private final Comparator<Person> comparator;
+
+    SortKey(Comparator<Person> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the sort key named {@code name}, ignoring case.
+     *
+     * @throws IllegalArgumentException if no sort key is named {@code name}.
+     */
+    public static SortKey of(String name) {
+        requireNonNull(name);
+        for (SortKey key : values()) {
+            if (key.toString().equalsIgnoreCase(name)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns a comparator that orders persons by each of {@code keys} in turn, and then by name.
+     * Names are unique, so the order is total.
+     */
+    public static Comparator<Person> comparing(List<SortKey> keys) {
+        Comparator<Person> comparator = (first, second) -> 0;
+        for (SortKey key : keys) {
+            comparator = comparator.thenComparing(key.comparator);
+        }
+        return comparator.thenComparing(NAME.comparator);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
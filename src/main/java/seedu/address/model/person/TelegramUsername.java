@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's Telegram username in TAConnect.
@@ -33,10 +34,29 @@ public class TelegramUsername {
     }
 
     /**
-     * Returns true if a given string is a valid session number.
+     * Returns true if a given string is a valid Telegram username.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, in one pass and without allocating.
      */
     public static boolean isValidTelegramUsername(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int start = test.startsWith("@") ? 1 : 0;
+        int length = test.length() - start;
+        if (length < 5 || length > 32) {
+            return false;
+        }
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != '_' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code username} without its leading "@", if it has one.
+     */
+    public static String withoutAtSign(String username) {
+        return username.startsWith("@") ? username.substring(1) : username;
     }
 
     @Override
@@ -63,6 +83,7 @@ public class TelegramUsername {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // must agree with the case-insensitive equals so that usernames can be used as hash keys
+        return value.toLowerCase().hashCode();
     }
 }
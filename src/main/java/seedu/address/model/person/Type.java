@@ -3,34 +3,78 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Represents a Person's contact type in the address book.
  * Valid types: student, ta, instructor, staff.
+ * There is one canonical instance per type, obtained through {@link #of(String)} or the constants below.
+ * Types are ordered as listed above.
  */
-public class Type {
+public class Type implements Comparable<Type> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "The content must be “student”, “ta”, “instructor”, or “staff” in the tag field.";
     public static final String VALIDATION_REGEX = "(?i)(student|ta|instructor|staff)";
 
+    public static final Type STUDENT = new Type(Kind.STUDENT);
+    public static final Type TA = new Type(Kind.TA);
+    public static final Type INSTRUCTOR = new Type(Kind.INSTRUCTOR);
+    public static final Type STAFF = new Type(Kind.STAFF);
+
+    private static final Map<String, Type> TYPES_BY_VALUE = new HashMap<>();
+
+    static {
+        for (Type type : new Type[] {STUDENT, TA, INSTRUCTOR, STAFF}) {
+            TYPES_BY_VALUE.put(type.value, type);
+        }
+    }
+
     public final String value;
+    private final Kind kind;
 
     /**
      * Constructs a {@code Type}.
+     * Prefer {@link #of(String)}, which returns the shared instance instead of allocating a new one.
      *
      * @param type A valid contact type.
      */
     public Type(String type) {
+        Type canonical = of(type);
+        this.kind = canonical.kind;
+        this.value = canonical.value;
+    }
+
+    private Type(Kind kind) {
+        this.kind = kind;
+        this.value = kind.value;
+    }
+
+    /**
+     * Returns the canonical {@code Type} for {@code type}, ignoring case.
+     *
+     * @param type A valid contact type.
+     */
+    public static Type of(String type) {
         requireNonNull(type);
-        checkArgument(isValidType(type), MESSAGE_CONSTRAINTS);
-        this.value = type.toLowerCase();
+        Type canonical = TYPES_BY_VALUE.get(type.toLowerCase(Locale.ROOT));
+        checkArgument(canonical != null, MESSAGE_CONSTRAINTS);
+        return canonical;
     }
 
     /**
      * Returns true if a given string is a valid type.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, with a single lookup.
      */
     public static boolean isValidType(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return TYPES_BY_VALUE.containsKey(test.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public int compareTo(Type other) {
+        return kind.compareTo(other.kind);
     }
 
     @Override
@@ -50,7 +94,7 @@ public class Type {
         }
 
         Type otherType = (Type) other;
-        return value.equals(otherType.value);
+        return kind == otherType.kind;
     }
 
     @Override
@@ -62,27 +106,36 @@ public class Type {
      * Returns true if the type is student.
      */
     public boolean isStudent() {
-        return value.equals("student");
+        return kind == Kind.STUDENT;
     }
 
     /**
      * Returns true if the type is ta.
      */
     public boolean isTa() {
-        return value.equals("ta");
+        return kind == Kind.TA;
     }
 
     /**
      * Returns true if the type is instructor.
      */
     public boolean isInstructor() {
-        return value.equals("instructor");
+        return kind == Kind.INSTRUCTOR;
     }
 
     /**
      * Returns true if the type is staff.
      */
     public boolean isStaff() {
-        return value.equals("staff");
+        return kind == Kind.STAFF;
+    }
+
+    /**
+     * The closed set of contact types.
+     */
+    private enum Kind {
+        STUDENT, TA, INSTRUCTOR, STAFF;
+
+        private final String value = name().toLowerCase(Locale.ROOT);
     }
 }
@@ -3,11 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +28,88 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Alongside the backing list, a hash index from {@code Name} to {@code Person} is kept in sync so that identity
+ * lookups do not need to scan the list, together with a {@code PersistentList} copy of the contents from which
+ * point-in-time snapshots can be taken in O(1).
+ * Each person also holds a sequence number that increases along the list, as persons are only ever appended or
+ * restored to their earlier place, so that the position of a person is found by binary search rather than by
+ * scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    // a restore that changes more than one in this many persons replaces the whole list rather than editing it
+    private static final int IN_PLACE_RESTORE_FACTOR = 16;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<Name, Person> personsByName = new HashMap<>();
+    private PersistentList<Person> persistentPersons = PersistentList.empty();
+    private Map<Name, Long> sequenceNumbers = new HashMap<>();
+    private long nextSequenceNumber;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return get(toCheck.getName()).isPresent();
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, which is matched case-sensitively, if there is one.
+     */
+    public Optional<Person> get(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain it.
+     * The position is found by binary search over sequence numbers, in O(log n) time.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        if (!person.equals(personsByName.get(person.getName()))) {
+            return -1;
+        }
+        int index = lowerBound(sequenceNumbers.get(person.getName()));
+        assert internalList.get(index).equals(person) : "sequence numbers are out of sync with the backing list";
+        return index;
+    }
+
+    /**
+     * Returns the sequence number of {@code person}, which must be in the list.
+     * Sequence numbers increase along the list and are never reused, so a person's sequence number fixes its position
+     * relative to every other person that is, or was, in the list.
+     */
+    public long getSequenceNumber(Person person) {
+        requireNonNull(person);
+        if (!person.equals(personsByName.get(person.getName()))) {
+            throw new PersonNotFoundException();
+        }
+        return sequenceNumbers.get(person.getName());
+    }
+
+    /**
+     * Returns the number of persons in the list with a sequence number below {@code sequenceNumber}.
+     */
+    private int lowerBound(long sequenceNumber) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sequenceNumbers.get(internalList.get(mid).getName()) < sequenceNumber) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
@@ -45,6 +121,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
+        sequenceNumbers.put(toAdd.getName(), nextSequenceNumber++);
+        persistentPersons = persistentPersons.plus(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,8 +135,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByName.get(target.getName()))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,6 +143,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = indexOf(target);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        sequenceNumbers.put(editedPerson.getName(), sequenceNumbers.remove(target.getName()));
+        persistentPersons = persistentPersons.with(index, editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,29 +157,180 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(personsByName.get(toRemove.getName()))) {
             throw new PersonNotFoundException();
         }
+        int index = indexOf(toRemove);
+        personsByName.remove(toRemove.getName());
+        sequenceNumbers.remove(toRemove.getName());
+        persistentPersons = persistentPersons.minus(index);
+        internalList.remove(index);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     * The list is left unchanged if any of them does.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> namesToAdd = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !namesToAdd.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        for (Person person : toAdd) {
+            personsByName.put(person.getName(), person);
+            sequenceNumbers.put(person.getName(), nextSequenceNumber++);
+            persistentPersons = persistentPersons.plus(person);
+        }
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in a single pass, as a single change.
+     * Every person must exist in the list; the list is left unchanged if any of them does not.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        for (Person person : toRemove) {
+            if (!person.equals(personsByName.get(person.getName()))) {
+                throw new PersonNotFoundException();
+            }
+        }
+
+        Set<Person> personsToRemove = new HashSet<>(toRemove);
+        for (int i = internalList.size() - 1; i >= 0; i--) {
+            if (personsToRemove.contains(internalList.get(i))) {
+                persistentPersons = persistentPersons.minus(i);
+            }
+        }
+        toRemove.forEach(person -> personsByName.remove(person.getName()));
+        toRemove.forEach(person -> sequenceNumbers.remove(person.getName()));
+        internalList.removeAll(personsToRemove);
+    }
+
+    /**
+     * Replaces every key of {@code replacements} with its mapped person in a single pass, as a single change.
+     * Every key must exist in the list, and the resulting list must not contain duplicate persons.
+     * The list is left unchanged if either condition is violated.
+     */
+    public void replaceAll(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        replacements.forEach((target, editedPerson) -> requireAllNonNull(target, editedPerson));
+        for (Person target : replacements.keySet()) {
+            if (!target.equals(personsByName.get(target.getName()))) {
+                throw new PersonNotFoundException();
+            }
+        }
+
+        Set<Name> vacatedNames = new HashSet<>();
+        replacements.keySet().forEach(target -> vacatedNames.add(target.getName()));
+        Set<Name> namesToAdd = new HashSet<>();
+        for (Person editedPerson : replacements.values()) {
+            Name name = editedPerson.getName();
+            if ((contains(editedPerson) && !vacatedNames.contains(name)) || !namesToAdd.add(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        Map<Name, Long> editedSequenceNumbers = new HashMap<>();
+        replacements.forEach((target, editedPerson) ->
+                editedSequenceNumbers.put(editedPerson.getName(), sequenceNumbers.get(target.getName())));
+        vacatedNames.forEach(personsByName::remove);
+        vacatedNames.forEach(sequenceNumbers::remove);
+        replacements.values().forEach(person -> personsByName.put(person.getName(), person));
+        sequenceNumbers.putAll(editedSequenceNumbers);
+        List<Person> replaced = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            Person editedPerson = replacements.get(person);
+            if (editedPerson != null) {
+                persistentPersons = persistentPersons.with(replaced.size(), editedPerson);
+            }
+            replaced.add(editedPerson == null ? person : editedPerson);
+        }
+        internalList.setAll(replaced);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        sequenceNumbers = new HashMap<>(replacement.sequenceNumbers);
+        nextSequenceNumber = Math.max(nextSequenceNumber, replacement.nextSequenceNumber);
+        persistentPersons = replacement.persistentPersons;
         internalList.setAll(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, in time linear in the number of persons.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException naming every duplicated identity, leaving the list unchanged.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Person> newPersonsByName = new HashMap<>(persons.size() * 4 / 3 + 1);
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (newPersonsByName.putIfAbsent(person.getName(), person) != null) {
+                duplicateNames.add(person.getName());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(new ArrayList<>(duplicateNames));
         }
 
+        personsByName = newPersonsByName;
+        sequenceNumbers = new HashMap<>(persons.size() * 4 / 3 + 1);
+        for (Person person : persons) {
+            sequenceNumbers.put(person.getName(), nextSequenceNumber++);
+        }
+        persistentPersons = persons instanceof PersistentList ? (PersistentList<Person>) persons
+                : PersistentList.of(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces the contents of this list with {@code persons}, which must differ from the current contents by exactly
+     * the removal of the keys of {@code removed} and the addition of the keys of {@code added}, each mapped to its
+     * sequence number in the list that holds it. Only those persons are looked up, so the hash index and sequence
+     * numbers are updated in time proportional to the change; the backing list is edited in place unless the change
+     * touches a large part of it.
+     */
+    public void restore(PersistentList<Person> persons, Map<Person, Long> removed, Map<Person, Long> added) {
+        requireAllNonNull(persons, removed, added);
+        boolean isInPlace = (removed.size() + added.size()) * IN_PLACE_RESTORE_FACTOR <= internalList.size();
+        if (isInPlace) {
+            // located before the hash index changes, from the highest position down so earlier positions hold
+            removed.values().stream().sorted(Comparator.reverseOrder())
+                    .forEach(sequenceNumber -> internalList.remove(lowerBound(sequenceNumber)));
+        }
+        removed.keySet().forEach(person -> personsByName.remove(person.getName()));
+        removed.keySet().forEach(person -> sequenceNumbers.remove(person.getName()));
+        added.forEach((person, sequenceNumber) -> {
+            personsByName.put(person.getName(), person);
+            sequenceNumbers.put(person.getName(), sequenceNumber);
+        });
+        persistentPersons = persons;
+        if (!isInPlace) {
+            internalList.setAll(persons);
+            return;
+        }
+        added.entrySet().stream().sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> internalList.add(lowerBound(entry.getValue()), entry.getKey()));
+    }
+
+    /**
+     * Returns an immutable copy of the current contents in O(1) time.
+     * Later changes to this list do not affect the returned copy, and only copy the parts of it they change.
+     */
+    public PersistentList<Person> snapshot() {
+        return persistentPersons;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -133,18 +367,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
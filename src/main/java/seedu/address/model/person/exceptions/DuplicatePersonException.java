@@ -1,11 +1,37 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Name> duplicateNames;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateNames = List.of();
+    }
+
+    /**
+     * Creates an exception reporting every identity, given by {@code duplicateNames}, that occurs more than once.
+     */
+    public DuplicatePersonException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate persons: " + duplicateNames.stream()
+                .map(Name::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicateNames = List.copyOf(duplicateNames);
+    }
+
+    /**
+     * Returns the names of the duplicated persons, each once, or an empty list if they were not recorded.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
     }
 }
@@ -2,16 +2,25 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * {@link #of(String)} hands out one shared instance per tag name, for as long as any instance is in use.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // tag names are typed freely, so the pool holds its tags weakly and forgets those no longer in use
+    private static final Map<String, WeakReference<Tag>> POOL = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +34,40 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (POOL) {
+            WeakReference<Tag> pooledReference = POOL.get(tagName);
+            Tag pooled = pooledReference == null ? null : pooledReference.get();
+            if (pooled != null) {
+                return pooled;
+            }
+            Tag tag = new Tag(tagName);
+            // keyed by the tag's own name, which the weak reference does not keep reachable
+            POOL.put(tag.tagName, new WeakReference<>(tag));
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, in one pass and without allocating.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
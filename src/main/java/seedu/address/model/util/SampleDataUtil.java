@@ -17,17 +17,17 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new Type("student"), new TelegramUsername("@alexyeoh"), new Session("A1")),
+                Type.of("student"), new TelegramUsername("@alexyeoh"), Session.of("A1")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Type("ta"), new TelegramUsername("@bernyu"), new Session("A2")),
+                Type.of("ta"), new TelegramUsername("@bernyu"), Session.of("A2")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new Type("instructor"), new TelegramUsername("charlotteO")),
+                Type.of("instructor"), new TelegramUsername("charlotteO")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new Type("staff"), new TelegramUsername("@davidli")),
+                Type.of("staff"), new TelegramUsername("@davidli")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Type("student"), new Session("B1")),
+                Type.of("student"), Session.of("B1")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Type("ta"), new TelegramUsername("@roybala"), new Session("A1"))
+                Type.of("ta"), new TelegramUsername("@roybala"), Session.of("A1"))
         };
     }
 
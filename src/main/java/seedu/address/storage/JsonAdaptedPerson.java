@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.util.function.Function;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -66,43 +68,29 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelValue(name, Name::new, Name.MESSAGE_CONSTRAINTS);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = toModelValue(phone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = toModelValue(email, Email::new, Email.MESSAGE_CONSTRAINTS);
 
         if (type == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Type.class.getSimpleName()));
         }
-        if (!Type.isValidType(type)) {
-            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
-        }
-        final Type modelType = new Type(type);
+        final Type modelType = toModelValue(type, Type::of, Type.MESSAGE_CONSTRAINTS);
 
         final TelegramUsername modelTelegram;
         if (telegramUsername == null) {
             modelTelegram = null;
         } else {
-            if (!TelegramUsername.isValidTelegramUsername(telegramUsername)) {
-                throw new IllegalValueException(TelegramUsername.MESSAGE_CONSTRAINTS);
-            }
-            modelTelegram = new TelegramUsername(telegramUsername);
+            modelTelegram = toModelValue(telegramUsername, TelegramUsername::new,
+                    TelegramUsername.MESSAGE_CONSTRAINTS);
         }
 
         final Session modelSession;
@@ -110,10 +98,7 @@ class JsonAdaptedPerson {
             if (session == null) {
                 throw new IllegalValueException(Person.MESSAGE_STUDENT_TA);
             }
-            if (!Session.isValidSession(session)) {
-                throw new IllegalValueException(Session.MESSAGE_CONSTRAINTS);
-            }
-            modelSession = new Session(session);
+            modelSession = toModelValue(session, Session::of, Session.MESSAGE_CONSTRAINTS);
         } else {
             if (session != null) {
                 throw new IllegalValueException(Person.MESSAGE_INSTRUCTOR_STAFF);
@@ -124,4 +109,19 @@ class JsonAdaptedPerson {
         return new Person(modelName, modelPhone, modelEmail, modelType, modelTelegram, modelSession);
     }
 
+    /**
+     * Creates a model value object from {@code value} with {@code factory}, which validates {@code value} itself.
+     * This way each value is validated exactly once instead of once here and again by its constructor.
+     *
+     * @throws IllegalValueException with {@code messageConstraints} if {@code value} is invalid.
+     */
+    private static <T> T toModelValue(String value, Function<String, T> factory, String messageConstraints)
+            throws IllegalValueException {
+        try {
+            return factory.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(messageConstraints);
+        }
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.address.ui;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,18 +19,27 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // the Tab key would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleTabPressed();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -49,6 +60,18 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the Tab button pressed event by completing the value being typed.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        String completedText = commandCompleter.complete(commandText);
+        if (!completedText.equals(commandText)) {
+            commandTextField.setText(completedText);
+            commandTextField.positionCaret(completedText.length());
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +105,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete a partially typed command.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the command text with the value being typed at its end completed.
+         *
+         * @see seedu.address.logic.Logic#autocomplete(String)
+         */
+        String complete(String commandText);
+    }
+
 }
@@ -0,0 +1,126 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.TelegramUsername;
+import seedu.address.model.person.Type;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures how fast person fields are validated and how fast an address book is loaded from its JSON file.
+ * Validation is timed both the old way, by matching each field against its {@code VALIDATION_REGEX} with
+ * {@code String#matches}, and with the current {@code isValidX} validators.
+ *
+ * Not a test: run it with {@code gradlew benchmark}, optionally passing the roster size with
+ * {@code --args=<persons>}.
+ */
+public class LoadBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<Person> persons = generatePersons(personCount);
+
+        report("validation, String#matches", personCount, () -> validateWithRegex(persons));
+        report("validation, isValidX", personCount, () -> validateWithValidators(persons));
+
+        Path file = Files.createTempFile("addressbook-benchmark", ".json");
+        try {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+            storage.saveAddressBook(addressBook);
+            report("load from JSON", personCount, () -> load(storage, personCount));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean isStudent = i % 10 != 0;
+            persons.add(new Person(new Name("Person " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("person" + i + "@u.nus.edu"), isStudent ? Type.STUDENT : Type.TA,
+                    new TelegramUsername("@person_" + i), Session.of("G" + (i % 20 + 1))));
+        }
+        return persons;
+    }
+
+    private static int validateWithRegex(List<Person> persons) {
+        int valid = 0;
+        for (Person person : persons) {
+            valid += person.getName().fullName.matches(Name.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getPhone().value.matches(Phone.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getEmail().value.matches(Email.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getType().value.matches(Type.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getTelegramUsername().get().value.matches(TelegramUsername.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getSession().get().value.matches(Session.VALIDATION_REGEX) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    private static int validateWithValidators(List<Person> persons) {
+        int valid = 0;
+        for (Person person : persons) {
+            valid += Name.isValidName(person.getName().fullName) ? 1 : 0;
+            valid += Phone.isValidPhone(person.getPhone().value) ? 1 : 0;
+            valid += Email.isValidEmail(person.getEmail().value) ? 1 : 0;
+            valid += Type.isValidType(person.getType().value) ? 1 : 0;
+            valid += TelegramUsername.isValidTelegramUsername(person.getTelegramUsername().get().value) ? 1 : 0;
+            valid += Session.isValidSession(person.getSession().get().value) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    private static int load(JsonAddressBookStorage storage, int expectedCount) throws DataLoadingException {
+        ReadOnlyAddressBook loaded = storage.readAddressBook().orElseThrow();
+        int size = loaded.getPersonList().size();
+        if (size != expectedCount) {
+            throw new IllegalStateException("Loaded " + size + " persons instead of " + expectedCount);
+        }
+        return size;
+    }
+
+    /**
+     * Runs {@code round} a few times to warm up, then prints the mean throughput of the measured rounds.
+     */
+    private static void report(String label, int personCount, Round round) throws DataLoadingException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9 / MEASURED_ROUNDS;
+        System.out.printf("%-28s %,12.0f persons/s (%.1f ms per %,d persons)%n",
+                label, personCount / seconds, seconds * 1000, personCount);
+    }
+
+    /**
+     * One measured round of work.
+     */
+    @FunctionalInterface
+    private interface Round {
+        int run() throws DataLoadingException;
+    }
+}
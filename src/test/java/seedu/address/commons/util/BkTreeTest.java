@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree<Integer> tree = new BkTree<>();
+
+    @Test
+    public void add_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add("key", null));
+    }
+
+    @Test
+    public void getValuesWithin_emptyTree_returnsEmptyList() {
+        assertEquals(List.of(), tree.getValuesWithin("alex", 2));
+    }
+
+    @Test
+    public void getValuesWithin_nearKeys_returnsValuesNearestFirst() {
+        tree.add("Yeoh", 1);
+        tree.add("alex", 2);
+        tree.add("alexander", 3);
+        tree.add("ALEX", 4);
+        tree.add("bernice", 5);
+
+        assertEquals(List.of(2, 4), tree.getValuesWithin("alex", 0));
+        assertEquals(List.of(2, 4), tree.getValuesWithin("alx", 1));
+        assertEquals(List.of(1), tree.getValuesWithin("yoeh", 2));
+        assertEquals(List.of(), tree.getValuesWithin("yoeh", 1));
+        assertEquals(List.of(3, 2, 4), tree.getValuesWithin("alexandr", 4));
+        assertEquals(List.of(), tree.getValuesWithin("alex", -1));
+    }
+
+    @Test
+    public void remove_existingValue_noLongerReturned() {
+        tree.add("alex", 1);
+        tree.add("alex", 2);
+        tree.add("alec", 3);
+
+        tree.remove("ALEX", 1);
+        assertEquals(List.of(2, 3), tree.getValuesWithin("alex", 1));
+
+        tree.remove("alex", 2);
+        tree.remove("alex", 3);
+        tree.remove("bob", 3);
+        assertEquals(List.of(3), tree.getValuesWithin("alex", 1));
+    }
+
+    @Test
+    public void remove_mostKeysEmptied_deadKeysDiscarded() {
+        List<String> keys = List.of("alex", "alec", "bernice", "bernard", "yeoh", "yu", "david", "irfan");
+        for (int i = 0; i < keys.size(); i++) {
+            tree.add(keys.get(i), i);
+        }
+        for (int i = 0; i < 5; i++) {
+            tree.remove(keys.get(i), i);
+        }
+
+        assertEquals(3, tree.getKeyCount());
+        assertEquals(List.of(5), tree.getValuesWithin("yo", 1));
+        assertEquals(List.of(), tree.getValuesWithin("alex", 2));
+        tree.add("alex", 0);
+        assertEquals(List.of(0), tree.getValuesWithin("alex", 2));
+    }
+
+    @Test
+    public void clear_nonEmptyTree_removesEverything() {
+        tree.add("alex", 1);
+        tree.clear();
+        assertEquals(List.of(), tree.getValuesWithin("alex", 3));
+    }
+
+    @Test
+    public void getValuesWithin_randomKeys_sameAsComparingEveryKey() {
+        Random random = new Random(13);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String key = randomKey(random);
+            keys.add(key);
+            tree.add(key, i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String query = randomKey(random);
+            int maxDistance = random.nextInt(3);
+            List<Integer> expected = new ArrayList<>();
+            for (int j = 0; j < keys.size(); j++) {
+                if (StringUtil.editDistance(query, keys.get(j)) <= maxDistance) {
+                    expected.add(j);
+                }
+            }
+            List<Integer> actual = new ArrayList<>(tree.getValuesWithin(query, maxDistance));
+            actual.sort(null);
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(4)));
+        }
+        return key.toString();
+    }
+}
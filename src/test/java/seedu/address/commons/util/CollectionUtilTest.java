@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -8,7 +9,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +86,27 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void least() {
+        Comparator<Integer> naturalOrder = Comparator.naturalOrder();
+
+        // non-positive limit
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtil.least(Stream.of(1), 0, naturalOrder));
+
+        // fewer elements than the limit -> all of them, in order
+        assertEquals(List.of(1, 2, 3), CollectionUtil.least(Stream.of(3, 1, 2), 5, naturalOrder));
+        assertEquals(List.of(), CollectionUtil.least(Stream.<Integer>empty(), 5, naturalOrder));
+
+        // more elements than the limit -> the least of them, in order
+        assertEquals(List.of(0, 1, 2), CollectionUtil.least(
+                IntStream.range(0, 1000).map(i -> 999 - i).boxed(), 3, naturalOrder));
+
+        // equal elements -> the earlier ones, in the order given
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        assertEquals(List.of("b", "c", "d"),
+                CollectionUtil.least(Stream.of("aa", "b", "c", "d", "e"), 3, byLength));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    private final LruCache<String, Integer> cache = new LruCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.put("key", null));
+    }
+
+    @Test
+    public void get_cachedKey_returnsValue() {
+        cache.put("one", 1);
+        assertEquals(Optional.of(1), cache.get("one"));
+        assertEquals(Optional.empty(), cache.get("two"));
+
+        cache.put("one", 11);
+        assertEquals(Optional.of(11), cache.get("one"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put("one", 1);
+        cache.put("two", 2);
+        cache.get("one");
+        cache.put("three", 3);
+
+        assertEquals(Optional.of(1), cache.get("one"));
+        assertEquals(Optional.empty(), cache.get("two"));
+        assertEquals(Optional.of(3), cache.get("three"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void clear_removesEveryEntry() {
+        cache.put("one", 1);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(Optional.empty(), cache.get("one"));
+    }
+}
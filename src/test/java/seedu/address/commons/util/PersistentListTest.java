@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(List.of(), PersistentList.empty());
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void of_elements_sameOrder() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        assertEquals(elements, PersistentList.of(elements));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+    }
+
+    @Test
+    public void modifications_previousVersionUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> inserted = original.plus(1, "x");
+        PersistentList<String> replaced = original.with(2, "z");
+        PersistentList<String> removed = original.minus(0);
+
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("a", "b", "c", "d"), appended);
+        assertEquals(List.of("a", "x", "b", "c"), inserted);
+        assertEquals(List.of("a", "b", "z"), replaced);
+        assertEquals(List.of("b", "c"), removed);
+    }
+
+    @Test
+    public void randomModifications_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTreeTest {
+
+    private final PrefixTree<Integer> tree = new PrefixTree<>();
+
+    @Test
+    public void add_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add("key", null));
+    }
+
+    @Test
+    public void getValuesWithPrefix_sharedPrefixes_returnsValuesInKeyOrder() {
+        tree.add("alexander", 1);
+        tree.add("Alex", 2);
+        tree.add("alice", 3);
+        tree.add("bob", 4);
+        tree.add("ALEX", 5);
+
+        assertEquals(List.of(2, 5, 1, 3), tree.getValuesWithPrefix("al"));
+        assertEquals(List.of(2, 5, 1), tree.getValuesWithPrefix("ALE"));
+        assertEquals(List.of(2, 5, 1), tree.getValuesWithPrefix("alex"));
+        assertEquals(List.of(1), tree.getValuesWithPrefix("alexa"));
+        assertEquals(List.of(2, 5, 1, 3, 4), tree.getValuesWithPrefix(""));
+        assertEquals(List.of(), tree.getValuesWithPrefix("alexx"));
+        assertEquals(List.of(), tree.getValuesWithPrefix("c"));
+    }
+
+    @Test
+    public void getValuesWithPrefix_valueUnderSeveralKeys_returnedOnce() {
+        tree.add("meier", 1);
+        tree.add("meyer", 1);
+        assertEquals(List.of(1), tree.getValuesWithPrefix("me"));
+    }
+
+    @Test
+    public void remove_existingValues_treeStillAnswersPrefixes() {
+        tree.add("alex", 1);
+        tree.add("alexander", 2);
+        tree.add("alice", 3);
+
+        tree.remove("alex", 1);
+        assertEquals(List.of(2), tree.getValuesWithPrefix("alex"));
+        assertEquals(List.of(2, 3), tree.getValuesWithPrefix("al"));
+
+        tree.remove("alice", 3);
+        assertEquals(List.of(2), tree.getValuesWithPrefix("a"));
+
+        // removing a value that is not filed under the key does nothing
+        tree.remove("alexander", 3);
+        tree.remove("alexa", 2);
+        assertEquals(List.of(2), tree.getValuesWithPrefix("alexander"));
+
+        tree.remove("ALEXANDER", 2);
+        assertEquals(List.of(), tree.getValuesWithPrefix(""));
+    }
+
+    @Test
+    public void clear_nonEmptyTree_removesEverything() {
+        tree.add("alex", 1);
+        tree.add("", 2);
+        tree.clear();
+        assertEquals(List.of(), tree.getValuesWithPrefix(""));
+    }
+
+    @Test
+    public void getValuesWithPrefix_randomOperations_sameAsScanning() {
+        Random random = new Random(12);
+        List<String> keys = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!keys.isEmpty() && random.nextInt(3) == 0) {
+                int removed = random.nextInt(keys.size());
+                tree.remove(keys.remove(removed), values.remove(removed));
+            } else {
+                String key = randomKey(random);
+                if (!keys.contains(key)) {
+                    keys.add(key);
+                    values.add(i);
+                    tree.add(key, i);
+                }
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String prefix = randomKey(random).substring(0, random.nextInt(3));
+            List<Integer> expected = new ArrayList<>();
+            for (int j = 0; j < keys.size(); j++) {
+                if (keys.get(j).startsWith(prefix)) {
+                    expected.add(values.get(j));
+                }
+            }
+            List<Integer> actual = new ArrayList<>(tree.getValuesWithPrefix(prefix));
+            expected.sort(null);
+            actual.sort(null);
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 2 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(3)));
+        }
+        return key.toString();
+    }
+}
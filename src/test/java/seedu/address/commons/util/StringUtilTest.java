@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -153,6 +154,69 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsSubstringIgnoreCase(" alphabet soup ", "  SoUp"));
         assertTrue(StringUtil.containsSubstringIgnoreCase("A.B-C'D", "b-c"));
         assertTrue(StringUtil.containsSubstringIgnoreCase("12345", "234"));
+        assertTrue(StringUtil.containsSubstringIgnoreCase("bbb", "BBB")); // Whole sentence (boundary case)
+        assertTrue(StringUtil.containsSubstringIgnoreCase("aab", "ab")); // Match after a partial match
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_mixedCase_sameAsEqualsIgnoreCase() {
+        assertEquals("alice pauline", StringUtil.foldCase("ALICE Pauline"));
+        assertEquals(StringUtil.foldCase("Stra\u00dfe"), StringUtil.foldCase("STRA\u00dfE"));
+        // Greek final sigma, small sigma and capital sigma are all equal ignoring case
+        assertEquals(StringUtil.foldCase("\u03c2"), StringUtil.foldCase("\u03a3"));
+        assertEquals(StringUtil.foldCase("\u03c3"), StringUtil.foldCase("\u03a3"));
+    }
+
+    //---------------- Tests for phoneticCode --------------------------------------
+
+    @Test
+    public void phoneticCode_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.phoneticCode(null));
+    }
+
+    @Test
+    public void phoneticCode_validStrings_correctResult() {
+        assertEquals("R163", StringUtil.phoneticCode("Robert"));
+        assertEquals("R163", StringUtil.phoneticCode("rupert"));
+        assertEquals("A261", StringUtil.phoneticCode("Ashcraft")); // h does not separate c from s
+        assertEquals("T522", StringUtil.phoneticCode("Tymczak")); // vowels do separate k from z
+        assertEquals("P236", StringUtil.phoneticCode("Pfister")); // first letter's digit is not repeated
+
+        // sound-alike names
+        assertEquals(StringUtil.phoneticCode("Lee"), StringUtil.phoneticCode("LI"));
+        assertEquals(StringUtil.phoneticCode("Tan"), StringUtil.phoneticCode("Tang"));
+        assertEquals(StringUtil.phoneticCode("Meier"), StringUtil.phoneticCode("Meyer"));
+
+        // letters only
+        assertEquals("", StringUtil.phoneticCode("123"));
+        assertEquals("N200", StringUtil.phoneticCode("ng")); // too short to drop the final g
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validStrings_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(0, StringUtil.editDistance("alex", "alex"));
+        assertEquals(1, StringUtil.editDistance("alx", "alex")); // insertion
+        assertEquals(1, StringUtil.editDistance("alex", "alec")); // substitution
+        assertEquals(2, StringUtil.editDistance("yoeh", "yeoh")); // transposition
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.editDistance("Alex", "alex")); // case-sensitive
     }
 
     //---------------- Tests for getDetails --------------------------------------
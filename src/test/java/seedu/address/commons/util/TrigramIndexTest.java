@@ -0,0 +1,128 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex<Integer> index = new TrigramIndex<>();
+
+    @Test
+    public void add_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add("key", null));
+    }
+
+    @Test
+    public void getValuesContaining_substringsOfKeys_returnsValuesIgnoringCase() {
+        index.add("Charlotte Oliveiro", 1);
+        index.add("alice@u.nus.edu", 2);
+        index.add("bob@example.com", 3);
+        index.add("@OliverK", 4);
+
+        assertEquals(List.of(1, 4), sorted(index.getValuesContaining("oli")));
+        assertEquals(List.of(1), sorted(index.getValuesContaining("LOTTE OLI")));
+        assertEquals(List.of(2), sorted(index.getValuesContaining("@U.nus.edu")));
+        assertEquals(List.of(), sorted(index.getValuesContaining("nus.edu.sg")));
+        assertEquals(List.of(), sorted(index.getValuesContaining("xyz")));
+
+        // substrings shorter than a trigram
+        assertEquals(List.of(2, 3, 4), sorted(index.getValuesContaining("@")));
+        assertEquals(List.of(1, 4), sorted(index.getValuesContaining("ol")));
+        assertEquals(List.of(1, 2, 3, 4), sorted(index.getValuesContaining("")));
+    }
+
+    @Test
+    public void getValuesContaining_trigramsInWrongOrder_notReturned() {
+        index.add("abcab", 1);
+        assertEquals(List.of(), index.getValuesContaining("bcabc"));
+        assertEquals(List.of(1), index.getValuesContaining("cab"));
+    }
+
+    @Test
+    public void getValuesContaining_valueUnderSeveralKeys_returnedOnce() {
+        index.add("meier", 1);
+        index.add("MEIER", 2);
+        index.add("meierhof", 1);
+        assertEquals(List.of(1, 2), sorted(index.getValuesContaining("eie")));
+    }
+
+    @Test
+    public void remove_existingValues_indexStillAnswersSubstrings() {
+        index.add("alex", 1);
+        index.add("Alex", 2);
+        index.add("alexander", 3);
+
+        index.remove("ALEX", 1);
+        assertEquals(List.of(2, 3), sorted(index.getValuesContaining("lex")));
+
+        index.remove("alex", 2);
+        assertEquals(List.of(3), sorted(index.getValuesContaining("lex")));
+
+        // removing a value that is not filed under the key does nothing
+        index.remove("alexander", 2);
+        index.remove("alexa", 3);
+        assertEquals(List.of(3), sorted(index.getValuesContaining("xand")));
+
+        index.remove("alexander", 3);
+        assertEquals(List.of(), index.getValuesContaining(""));
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_removesEverything() {
+        index.add("alex", 1);
+        index.add("", 2);
+        index.clear();
+        assertEquals(List.of(), index.getValuesContaining(""));
+    }
+
+    @Test
+    public void getValuesContaining_randomOperations_sameAsScanning() {
+        Random random = new Random(21);
+        List<String> keys = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!keys.isEmpty() && random.nextInt(3) == 0) {
+                int removed = random.nextInt(keys.size());
+                index.remove(keys.remove(removed), values.remove(removed));
+            } else {
+                String key = randomString(random, 3 + random.nextInt(8));
+                if (!keys.contains(key)) {
+                    keys.add(key);
+                    values.add(i);
+                    index.add(key, i);
+                }
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String substring = randomString(random, 1 + random.nextInt(4));
+            List<Integer> expected = new ArrayList<>();
+            for (int j = 0; j < keys.size(); j++) {
+                if (keys.get(j).contains(substring)) {
+                    expected.add(values.get(j));
+                }
+            }
+            assertEquals(sorted(expected), sorted(index.getValuesContaining(substring)));
+        }
+    }
+
+    private static List<Integer> sorted(List<Integer> values) {
+        List<Integer> copy = new ArrayList<>(values);
+        copy.sort(null);
+        return copy;
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            string.append((char) ('a' + random.nextInt(3)));
+        }
+        return string.toString();
+    }
+}
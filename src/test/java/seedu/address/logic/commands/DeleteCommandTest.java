@@ -199,6 +199,16 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_nameNotDisplayedFilteredList_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Name hiddenName = model.getAddressBook().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased()).getName();
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(Selector.fromName(hiddenName)));
+
+        assertCommandFailure(deleteCommand, model,
+                String.format(DeleteCommand.MESSAGE_PERSON_NOT_FOUND_BY_NAME, hiddenName));
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(List.of(Selector.fromIndex(INDEX_FIRST_PERSON)));
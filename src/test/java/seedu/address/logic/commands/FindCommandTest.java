@@ -3,22 +3,36 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PAGE_OVERVIEW;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AllMatchPredicate;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
+import seedu.address.model.Query;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ContainsSubstringPredicate;
+import seedu.address.model.person.FieldMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NamePhoneticMatchPredicate;
+import seedu.address.model.person.Type;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +66,14 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different page -> returns false
+        assertFalse(findFirstCommand.equals(findFirstCommand.withPage(new Page(1, 10))));
+        assertTrue(findFirstCommand.equals(findFirstCommand.withPage(Page.ALL)));
+
+        // different limit -> returns false
+        assertFalse(findFirstCommand.equals(findFirstCommand.withLimit(10)));
+        assertTrue(findFirstCommand.equals(findFirstCommand.withLimit(Model.NO_LIMIT)));
     }
 
     @Test
@@ -74,6 +96,84 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_severalFields_personsMatchingAllFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        AllMatchPredicate predicate = new AllMatchPredicate(Arrays.asList(
+                FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT)),
+                new NameContainsKeywordsPredicate(Arrays.asList("Meyer", "Meier"))));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_query_personsSatisfyingQueryFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        Query query = Query.and(Arrays.asList(
+                Query.or(Arrays.asList(Query.of(FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT))),
+                        Query.of(FieldMatchesPredicate.ofTypes(List.of(Type.TA))))),
+                Query.not(Query.of(new NameContainsKeywordsPredicate(List.of("Meyer"))))));
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredPersonList(expectedModel.compileQuery(query));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_page_onlyThatPageShown() {
+        Page page = new Page(2, 2);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n"
+                + String.format(MESSAGE_PAGE_OVERVIEW, 2, 2, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        FindCommand command = new FindCommand(predicate).withPage(page);
+        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.setFilteredPersonListPage(page);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_limit_onlyFirstPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Meier Meyer");
+        FindCommand command = new FindCommand(predicate).withLimit(2);
+        expectedModel.updateFilteredPersonList(predicate, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_substrings_personsWithMatchingFieldsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        ContainsSubstringPredicate predicate = new ContainsSubstringPredicate(Arrays.asList("urz", "@GEO", "fiona@"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneticKeywords_soundAlikePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(List.of("Mayer"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 5);
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Arrays.asList("meyer", "Kunz"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate, predicate.getRanking());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, BENSON, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
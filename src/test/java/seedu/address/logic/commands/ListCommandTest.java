@@ -1,15 +1,29 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PAGE_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 
 /**
@@ -36,4 +50,58 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_page_showsOnlyThatPage() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Page page = new Page(2, 3);
+        expectedModel.setFilteredPersonListPage(page);
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS + "\n" + String.format(MESSAGE_PAGE_OVERVIEW, 2, 3, 3);
+        assertCommandSuccess(new ListCommand(page), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_limit_showsOnlyFirstPersons() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, 3);
+        String expectedMessage = String.format(ListCommand.MESSAGE_LIMITED_SUCCESS, 3);
+        assertCommandSuccess(new ListCommand(Page.ALL, 3), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listFirstPageCommand = new ListCommand(new Page(1, 10));
+
+        // same object -> returns true
+        assertTrue(listFirstPageCommand.equals(listFirstPageCommand));
+
+        // same values -> returns true
+        assertTrue(listFirstPageCommand.equals(new ListCommand(new Page(1, 10))));
+        assertTrue(new ListCommand().equals(new ListCommand(Page.ALL)));
+
+        // different types -> returns false
+        assertFalse(listFirstPageCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listFirstPageCommand.equals(null));
+
+        // different page -> returns false
+        assertFalse(listFirstPageCommand.equals(new ListCommand(new Page(2, 10))));
+        assertFalse(listFirstPageCommand.equals(new ListCommand()));
+
+        // different limit -> returns false
+        assertFalse(listFirstPageCommand.equals(new ListCommand(new Page(1, 10), 5)));
+        assertTrue(new ListCommand().equals(new ListCommand(Page.ALL, Model.NO_LIMIT)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Page page = new Page(3, 200);
+        String expected = ListCommand.class.getCanonicalName() + "{page=" + page + "}";
+        assertEquals(expected, new ListCommand(page).toString());
+        assertEquals(ListCommand.class.getCanonicalName() + "{page=" + page + ", limit=20}",
+                new ListCommand(page, 20).toString());
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.SortKey;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_severalKeys_sortedByEachInTurn() {
+        List<SortKey> keys = Arrays.asList(SortKey.TYPE, SortKey.NAME);
+        expectedModel.sortFilteredPersonList(SortKey.comparing(keys));
+        assertCommandSuccess(new SortCommand(keys), model, String.format(SortCommand.MESSAGE_SUCCESS, "type, name"),
+                expectedModel);
+        assertEquals(Arrays.asList(ALICE, ELLE, BENSON, CARL, FIONA, DANIEL, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_session_personsWithoutSessionLast() {
+        new SortCommand(List.of(SortKey.SESSION)).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, ELLE, CARL, DANIEL, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_limit_onlyFirstPersonsKept() {
+        List<SortKey> keys = List.of(SortKey.TYPE);
+        expectedModel.sortFilteredPersonList(SortKey.comparing(keys), 3);
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "type") + "\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        assertCommandSuccess(new SortCommand(keys, 3), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, ELLE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenFind_orderKept() {
+        new SortCommand(List.of(SortKey.NAME)).execute(model);
+        new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Elle", "Alice"))).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+
+        assertCommandSuccess(new SortCommand(List.of()), model, SortCommand.MESSAGE_RESET_SUCCESS, model);
+        new ListCommand().execute(model);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(List.of(SortKey.NAME));
+
+        // same object -> returns true
+        assertTrue(sortByName.equals(sortByName));
+
+        // same values -> returns true
+        assertTrue(sortByName.equals(new SortCommand(List.of(SortKey.NAME))));
+
+        // different keys -> returns false
+        assertFalse(sortByName.equals(new SortCommand(Arrays.asList(SortKey.NAME, SortKey.TYPE))));
+
+        // different limit -> returns false
+        assertFalse(sortByName.equals(new SortCommand(List.of(SortKey.NAME), 5)));
+
+        // null -> returns false
+        assertFalse(sortByName.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(List.of(SortKey.SESSION));
+        assertEquals(SortCommand.class.getCanonicalName() + "{keys=[session]}", sortCommand.toString());
+        assertEquals(SortCommand.class.getCanonicalName() + "{keys=[session], limit=5}",
+                new SortCommand(List.of(SortKey.SESSION), 5).toString());
+    }
+}
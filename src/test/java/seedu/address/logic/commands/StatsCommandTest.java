@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_typicalAddressBook_reportsCounts() {
+        String expectedMessage = "7 persons: 2 students, 1 TAs, 2 instructors, 2 staff\n"
+                + "4 persons without a Telegram username\n"
+                + "Session S1: 1 persons, 1 students, 0 TAs, no TA\n"
+                + "Session S2: 1 persons, 0 students, 1 TAs, 0.0 students per TA\n"
+                + "Session S3: 1 persons, 1 students, 0 TAs, no TA";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_personsChanged_reportsUpdatedCounts() {
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withSession("S2").build());
+        model.addPerson(new PersonBuilder().withName("Amy Tan").withSession("S2").withTelegram("@amytan").build());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withSession("S2").build());
+        expectedModel.addPerson(new PersonBuilder().withName("Amy Tan").withSession("S2").withTelegram("@amytan")
+                .build());
+
+        String expectedMessage = "8 persons: 3 students, 1 TAs, 2 instructors, 2 staff\n"
+                + "4 persons without a Telegram username\n"
+                + "Session S2: 3 persons, 2 students, 1 TAs, 2.0 students per TA\n"
+                + "Session S3: 1 persons, 1 students, 0 TAs, no TA";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
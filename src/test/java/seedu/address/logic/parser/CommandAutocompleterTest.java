@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandAutocompleterTest {
+
+    private final CommandAutocompleter autocompleter = new CommandAutocompleter(
+            new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+
+    @Test
+    public void complete_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> autocompleter.complete(null));
+    }
+
+    @Test
+    public void complete_uniqueName_completesInFull() {
+        assertEquals("delete n/Alice Pauline ", autocompleter.complete("delete n/ali"));
+        assertEquals("edit 1 p/123 n/George Best ", autocompleter.complete("edit 1 p/123 n/george b"));
+    }
+
+    @Test
+    public void complete_severalNames_extendsToCommonPrefix() {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(new PersonBuilder().withName("Alex Yeoh").build())
+                .withPerson(new PersonBuilder().withName("Alexander Tan").build())
+                .build();
+        CommandAutocompleter autocompleter = new CommandAutocompleter(new ModelManager(addressBook, new UserPrefs()));
+        assertEquals("delete n/Alex", autocompleter.complete("delete n/al"));
+        assertEquals("delete n/Alex", autocompleter.complete("delete n/alex"));
+        assertEquals("delete n/Alexander Tan ", autocompleter.complete("delete n/alexa"));
+        // matches the second word, but no name starts with it
+        assertEquals("delete n/ye", autocompleter.complete("delete n/ye"));
+    }
+
+    @Test
+    public void complete_telegramUsername_keepsFormTyped() {
+        assertEquals("edit 1 u/@georgeBest ", autocompleter.complete("edit 1 u/@GEO"));
+        assertEquals("edit 1 u/fionak ", autocompleter.complete("edit 1 u/FI"));
+    }
+
+    @Test
+    public void complete_session_completesCode() {
+        assertEquals("edit 2 s/S", autocompleter.complete("edit 2 s/S"));
+        assertEquals("edit 2 s/S3 ", autocompleter.complete("edit 2 s/s3"));
+    }
+
+    @Test
+    public void complete_findKeyword_completesNameWord() {
+        assertEquals("find alice Me", autocompleter.complete("find alice me"));
+        assertEquals("find Ku", autocompleter.complete("find ku"));
+        assertEquals("find Kunz ", autocompleter.complete("find kun"));
+        assertEquals("find ku*", autocompleter.complete("find ku*"));
+    }
+
+    @Test
+    public void complete_nothingToComplete_returnsUnchanged() {
+        assertEquals("", autocompleter.complete(""));
+        assertEquals("list", autocompleter.complete("list"));
+        assertEquals("add n/", autocompleter.complete("add n/"));
+        assertEquals("add n/Zed", autocompleter.complete("add n/Zed"));
+        assertEquals("add n/Alice Pauline p/9", autocompleter.complete("add n/Alice Pauline p/9"));
+        assertEquals("list ali", autocompleter.complete("list ali"));
+    }
+}
@@ -5,11 +5,21 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.AllMatchPredicate;
+import seedu.address.model.Page;
+import seedu.address.model.Query;
+import seedu.address.model.person.ContainsSubstringPredicate;
+import seedu.address.model.person.FieldMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NamePhoneticMatchPredicate;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
 
 public class FindCommandParserTest {
 
@@ -31,4 +41,108 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldArgs_returnsFindCommand() {
+        // one field with several values
+        FindCommand expectedFindCommand = new FindCommand(
+                FieldMatchesPredicate.ofSessions(Arrays.asList(Session.of("S1"), Session.of("G17"))));
+        assertParseSuccess(parser, " s/S1 s/G17", expectedFindCommand);
+
+        // several fields
+        expectedFindCommand = new FindCommand(new AllMatchPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Tan", "Lee")),
+                FieldMatchesPredicate.ofTypes(List.of(Type.TA)),
+                FieldMatchesPredicate.ofSessions(List.of(Session.of("G17"))))));
+        assertParseSuccess(parser, " t/TA s/G17 n/Tan  Lee", expectedFindCommand);
+        assertParseSuccess(parser, " n/Tan s/G17 t/ta n/Lee", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFieldArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " Tan s/G17", invalidFormat);
+        assertParseFailure(parser, " n/ s/G17", invalidFormat);
+        assertParseFailure(parser, " s/G177", Session.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/tutor", Type.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_queryArgs_returnsQueryFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(Query.and(Arrays.asList(
+                Query.of(FieldMatchesPredicate.ofTypes(List.of(Type.TA))),
+                Query.not(Query.of(new NameContainsKeywordsPredicate(List.of("Tan")))))));
+        assertParseSuccess(parser, " t/TA and not n/Tan", expectedFindCommand);
+
+        // parentheses alone make a query
+        assertParseSuccess(parser, " (t/TA) and not (n/Tan)", expectedFindCommand);
+
+        // operators without a field prefix are keywords
+        assertParseSuccess(parser, " Tan or Lee",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Tan", "or", "Lee"))));
+    }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameFuzzyMatchPredicate(Arrays.asList("alx", "yoeh")));
+        assertParseSuccess(parser, "~alx yoeh", expectedFindCommand);
+        assertParseSuccess(parser, " ~ alx \t yoeh ", expectedFindCommand);
+
+        // no keywords after the fuzzy marker
+        assertParseFailure(parser, " ~ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_pageOptions_returnsPagedFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList("Alice", "Bob"))).withPage(new Page(2, 50));
+        assertParseSuccess(parser, " Alice Bob --page 2 --size 50", expectedFindCommand);
+        assertParseSuccess(parser, " Alice Bob --size 50 --page 2 ", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(new ContainsSubstringPredicate(List.of("oli")))
+                .withPage(new Page(1, Page.DEFAULT_SIZE));
+        assertParseSuccess(parser, " %oli --size " + Page.DEFAULT_SIZE, expectedFindCommand);
+
+        // paging options alone
+        assertParseFailure(parser, " --page 2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid page number
+        assertParseFailure(parser, " Alice --page 0", Page.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_limitOption_returnsLimitedFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList("Alice", "Bob"))).withLimit(20);
+        assertParseSuccess(parser, " Alice Bob --limit 20", expectedFindCommand);
+        assertParseSuccess(parser, " Alice Bob --limit 20 --page 2",
+                expectedFindCommand.withPage(new Page(2, Page.DEFAULT_SIZE)));
+
+        // invalid limit
+        assertParseFailure(parser, " Alice --limit 0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+
+    @Test
+    public void parse_substringArgs_returnsSubstringFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new ContainsSubstringPredicate(Arrays.asList("oli", "@u.nus.edu")));
+        assertParseSuccess(parser, "%oli @u.nus.edu", expectedFindCommand);
+        assertParseSuccess(parser, " % oli \t @u.nus.edu ", expectedFindCommand);
+
+        // no keywords after the substring marker
+        assertParseFailure(parser, " % ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_phoneticArgs_returnsPhoneticFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NamePhoneticMatchPredicate(Arrays.asList("lee", "tang")));
+        assertParseSuccess(parser, "?lee tang", expectedFindCommand);
+        assertParseSuccess(parser, " ? lee \t tang ", expectedFindCommand);
+
+        // no keywords after the phonetic marker
+        assertParseFailure(parser, " ? ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
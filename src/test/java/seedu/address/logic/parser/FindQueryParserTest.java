@@ -0,0 +1,108 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Query;
+import seedu.address.model.person.FieldMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
+
+public class FindQueryParserTest {
+
+    private static final String INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private final Query inG17 = Query.of(FieldMatchesPredicate.ofSessions(List.of(Session.of("G17"))));
+    private final Query inG18 = Query.of(FieldMatchesPredicate.ofSessions(List.of(Session.of("G18"))));
+    private final Query students = Query.of(FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT)));
+    private final Query namedTan = Query.of(new NameContainsKeywordsPredicate(List.of("Tan")));
+
+    @Test
+    public void isQuery() {
+        assertTrue(FindQueryParser.isQuery("s/G17 or s/G18"));
+        assertTrue(FindQueryParser.isQuery("(s/G17)"));
+        assertTrue(FindQueryParser.isQuery("NOT n/Tan"));
+        assertTrue(FindQueryParser.isQuery("n/Tan \\or"));
+
+        assertFalse(FindQueryParser.isQuery("s/G17 t/student"));
+        assertFalse(FindQueryParser.isQuery("Tan and Lee"));
+        assertFalse(FindQueryParser.isQuery("n/Andy"));
+    }
+
+    @Test
+    public void parse_groupedQuery_success() throws Exception {
+        Query expected = Query.and(Arrays.asList(Query.or(Arrays.asList(inG17, inG18)), students,
+                Query.not(namedTan)));
+        assertEquals(expected, FindQueryParser.parse("(s/G17 or s/G18) and t/student and not n/Tan"));
+
+        // operators are case-insensitive
+        assertEquals(expected, FindQueryParser.parse("(s/G17 OR s/G18)AND t/student AND NOT n/Tan"));
+    }
+
+    @Test
+    public void parse_clausesWithoutOperator_throwsParseException() {
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_MISSING_OPERATOR, () -> FindQueryParser.parse(
+                "n/alex n/bernice or s/G17"));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_MISSING_OPERATOR, () -> FindQueryParser.parse(
+                "(s/G17 or s/G18) t/student"));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_MISSING_OPERATOR, () -> FindQueryParser.parse(
+                "s/G17 and t/student not n/Tan"));
+    }
+
+    @Test
+    public void parse_escapedOperator_nameKeyword() throws Exception {
+        Query expected = Query.and(Arrays.asList(
+                Query.of(new NameContainsKeywordsPredicate(Arrays.asList("Tan", "or", "NOT"))), inG17));
+        assertEquals(expected, FindQueryParser.parse("n/Tan \\or \\NOT and s/G17"));
+        assertEquals(Query.of(new NameContainsKeywordsPredicate(List.of("and"))),
+                FindQueryParser.parse("n/\\and"));
+    }
+
+    @Test
+    public void parse_precedence_notBeforeAndBeforeOr() throws Exception {
+        assertEquals(Query.or(Arrays.asList(inG17, Query.and(Arrays.asList(Query.not(inG18), students)))),
+                FindQueryParser.parse("s/G17 or not s/G18 and t/student"));
+    }
+
+    @Test
+    public void parse_multiWordName_keywordsOfOneClause() throws Exception {
+        Query expected = Query.and(Arrays.asList(
+                Query.of(new NameContainsKeywordsPredicate(Arrays.asList("Tan", "Lee"))), inG17));
+        assertEquals(expected, FindQueryParser.parse("n/ Tan Lee and s/G17"));
+    }
+
+    @Test
+    public void parse_foldableQuery_simplified() throws Exception {
+        assertEquals(inG17, FindQueryParser.parse("((s/G17)) and s/G17"));
+        assertEquals(inG17, FindQueryParser.parse("not not s/G17"));
+        assertEquals(Query.FALSE, FindQueryParser.parse("s/G17 and not s/G17"));
+    }
+
+    @Test
+    public void parse_malformedQuery_throwsParseException() {
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> FindQueryParser.parse("(s/G17 or s/G18"));
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> FindQueryParser.parse("s/G17 or"));
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> FindQueryParser.parse("and s/G17"));
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> FindQueryParser.parse("s/G17 or n/"));
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> FindQueryParser.parse("s/G17 or Tan"));
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> FindQueryParser.parse("s/G17)"));
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, Session.MESSAGE_CONSTRAINTS, () -> FindQueryParser.parse(
+                "s/G177 or s/G18"));
+    }
+}
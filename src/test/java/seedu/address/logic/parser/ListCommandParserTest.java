@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Page;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noOptions_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+        assertParseSuccess(parser, " 3", new ListCommand());
+    }
+
+    @Test
+    public void parse_pageOptions_returnsPagedListCommand() {
+        assertParseSuccess(parser, " --page 3 --size 200", new ListCommand(new Page(3, 200)));
+        assertParseSuccess(parser, " --size 200 --page 3", new ListCommand(new Page(3, 200)));
+        assertParseSuccess(parser, " --page 2", new ListCommand(new Page(2, Page.DEFAULT_SIZE)));
+    }
+
+    @Test
+    public void parse_limitOption_returnsLimitedListCommand() {
+        assertParseSuccess(parser, " --limit 20", new ListCommand(Page.ALL, 20));
+        assertParseSuccess(parser, " --limit 20 --page 2", new ListCommand(new Page(2, Page.DEFAULT_SIZE), 20));
+    }
+
+    @Test
+    public void parse_invalidOptions_throwsParseException() {
+        assertParseFailure(parser, " --page 0", Page.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " --size -5", Page.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " --limit 0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE_SIZE;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_LIMIT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.SortKey;
 import seedu.address.model.person.TelegramUsername;
 import seedu.address.model.person.Type;
 
@@ -189,4 +196,51 @@ public class ParserUtilTest {
         Session expected = new Session(VALID_SESSION);
         assertEquals(expected, ParserUtil.parseSession(input));
     }
+
+    @Test
+    public void parsePage_options_returnsPage() throws Exception {
+        assertEquals(Page.ALL, ParserUtil.parsePage(ArgumentTokenizer.tokenize(" ", PREFIX_PAGE, PREFIX_PAGE_SIZE)));
+        assertEquals(new Page(3, 200), ParserUtil.parsePage(
+                ArgumentTokenizer.tokenize(" --page 3 --size 200 ", PREFIX_PAGE, PREFIX_PAGE_SIZE)));
+        assertEquals(new Page(2, Page.DEFAULT_SIZE), ParserUtil.parsePage(
+                ArgumentTokenizer.tokenize(" --page 2", PREFIX_PAGE, PREFIX_PAGE_SIZE)));
+        assertEquals(new Page(1, 50), ParserUtil.parsePage(
+                ArgumentTokenizer.tokenize(" --size 50", PREFIX_PAGE, PREFIX_PAGE_SIZE)));
+    }
+
+    @Test
+    public void parsePage_invalidOptions_throwsParseException() {
+        assertThrows(ParseException.class, Page.MESSAGE_CONSTRAINTS, () -> ParserUtil.parsePage(
+                ArgumentTokenizer.tokenize(" --page 0", PREFIX_PAGE, PREFIX_PAGE_SIZE)));
+        assertThrows(ParseException.class, Page.MESSAGE_CONSTRAINTS, () -> ParserUtil.parsePage(
+                ArgumentTokenizer.tokenize(" --size two", PREFIX_PAGE, PREFIX_PAGE_SIZE)));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePage(
+                ArgumentTokenizer.tokenize(" --page 1 --page 2", PREFIX_PAGE, PREFIX_PAGE_SIZE)));
+    }
+
+    @Test
+    public void parseLimit_options_returnsLimit() throws Exception {
+        assertEquals(Model.NO_LIMIT, ParserUtil.parseLimit(ArgumentTokenizer.tokenize(" ", PREFIX_LIMIT)));
+        assertEquals(20, ParserUtil.parseLimit(ArgumentTokenizer.tokenize(" --limit 20 ", PREFIX_LIMIT)));
+    }
+
+    @Test
+    public void parseLimit_invalidOptions_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit(
+                ArgumentTokenizer.tokenize(" --limit 0", PREFIX_LIMIT)));
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit(
+                ArgumentTokenizer.tokenize(" --limit ten", PREFIX_LIMIT)));
+        assertThrows(ParseException.class, () -> ParserUtil.parseLimit(
+                ArgumentTokenizer.tokenize(" --limit 1 --limit 2", PREFIX_LIMIT)));
+    }
+
+    @Test
+    public void parseSortKey_validValueWithWhitespace_returnsTrimmedSortKey() throws Exception {
+        assertEquals(SortKey.SESSION, ParserUtil.parseSortKey(" Session "));
+    }
+
+    @Test
+    public void parseSortKey_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, SortKey.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseSortKey("email"));
+    }
 }
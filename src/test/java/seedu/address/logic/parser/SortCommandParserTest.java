@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.SortKey;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        SortCommand expectedSortCommand = new SortCommand(Arrays.asList(SortKey.SESSION, SortKey.NAME));
+        assertParseSuccess(parser, " session name", expectedSortCommand);
+
+        // case-insensitive, repeated keys ignored
+        assertParseSuccess(parser, " \t SESSION Name session ", expectedSortCommand);
+    }
+
+    @Test
+    public void parse_noArgs_returnsResetCommand() {
+        assertParseSuccess(parser, "  ", new SortCommand(List.of()));
+    }
+
+    @Test
+    public void parse_limitOption_returnsLimitedSortCommand() {
+        assertParseSuccess(parser, " name --limit 20", new SortCommand(List.of(SortKey.NAME), 20));
+        assertParseSuccess(parser, " --limit 20", new SortCommand(List.of(), 20));
+    }
+
+    @Test
+    public void parse_invalidKey_throwsParseException() {
+        assertParseFailure(parser, " name phone", SortKey.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " name --limit all", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+}
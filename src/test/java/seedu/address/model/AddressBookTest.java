@@ -3,22 +3,37 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SESSION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_TA;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.TelegramUsername;
+import seedu.address.model.person.Type;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -78,6 +93,240 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsInSession_personsAddedAndRemoved_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(HOON);
+        Session session = ALICE.getSession().get();
+        assertEquals(Arrays.asList(ALICE, HOON), addressBook.getPersonsInSession(session));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(HOON), addressBook.getPersonsInSession(session));
+    }
+
+    @Test
+    public void setPerson_fieldsChanged_indexesUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withType(VALID_TYPE_TA).withSession(VALID_SESSION_BOB)
+                .withEmail(VALID_EMAIL_BOB).withTelegram(VALID_TELEGRAM_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertEquals(List.of(), addressBook.getPersonsInSession(ALICE.getSession().get()));
+        assertEquals(List.of(editedAlice), addressBook.getPersonsInSession(new Session(VALID_SESSION_BOB)));
+        assertEquals(List.of(), addressBook.getPersonsOfType(ALICE.getType()));
+        assertEquals(List.of(editedAlice), addressBook.getPersonsOfType(new Type(VALID_TYPE_TA)));
+        assertEquals(List.of(), addressBook.getPersonsWithEmail(ALICE.getEmail()));
+        assertEquals(List.of(editedAlice), addressBook.getPersonsWithEmail(new Email(VALID_EMAIL_BOB)));
+        assertEquals(List.of(editedAlice), addressBook.getPersonsWithPhone(ALICE.getPhone()));
+        assertEquals(List.of(editedAlice),
+                addressBook.getPersonsWithTelegramUsername(new TelegramUsername(VALID_TELEGRAM_BOB)));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_personsChanged_indexUpdated() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON, HOON));
+        assertEquals(Arrays.asList(BENSON, HOON), addressBook.getPersonsWithNameWord("MEIER"));
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(HOON), addressBook.getPersonsWithNameWord("meier"));
+        assertEquals(List.of(editedBenson), addressBook.getPersonsWithNameWord("mayer"));
+
+        addressBook.removePerson(HOON);
+        assertEquals(List.of(), addressBook.getPersonsWithNameWord("meier"));
+    }
+
+    @Test
+    public void getPersonsWithNameWordWithin_personsChanged_indexUpdated() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON, HOON));
+        assertEquals(Arrays.asList(BENSON, HOON), addressBook.getPersonsWithNameWordWithin("MAIER", 1));
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        addressBook.removePerson(HOON);
+        assertEquals(List.of(), addressBook.getPersonsWithNameWordWithin("maier", 1));
+        assertEquals(List.of(ALICE), addressBook.getPersonsWithNameWordWithin("alise", 1));
+    }
+
+    @Test
+    public void getPersonsWithNameSoundingLike_personsChanged_indexUpdated() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON, HOON));
+        assertEquals(Arrays.asList(BENSON, HOON), addressBook.getPersonsWithNameSoundingLike("MAYER"));
+        assertEquals(2, addressBook.countPersonsWithNameSoundingLike("mayer"));
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        addressBook.removePerson(HOON);
+        assertEquals(List.of(), addressBook.getPersonsWithNameSoundingLike("mayer"));
+        assertEquals(1, addressBook.countPersonsWithNameSoundingLike("Tang"));
+    }
+
+    @Test
+    public void getStatistics_personsChanged_countsUpdated() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON, HOON));
+        RosterStatistics statistics = addressBook.getStatistics();
+        assertEquals(3, statistics.getPersonCount());
+        assertEquals(1, statistics.getCount(Type.STUDENT));
+        assertEquals(2, statistics.getCount(Session.of("S1")));
+        assertEquals(1, statistics.getCount(Session.of("S2"), Type.TA));
+        assertEquals(1, statistics.getMissingTelegramUsernameCount());
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withSession("S1").withTelegram("@benson").build());
+        addressBook.removePerson(ALICE);
+        statistics = addressBook.getStatistics();
+        assertEquals(List.of(Session.of("S1")), statistics.getSessions());
+        assertEquals(2, statistics.getCount(Session.of("S1"), Type.TA));
+        assertEquals(0, statistics.getCount(Session.of("S2")));
+        assertEquals(0, statistics.getMissingTelegramUsernameCount());
+        PersonCounts counts = new PersonCounts();
+        addressBook.getPersonList().forEach(counts::add);
+        assertEquals(counts.toStatistics(), statistics);
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(new AddressBook().getStatistics(), addressBook.getStatistics());
+        assertEquals(0, addressBook.getStatistics().getCount(Type.TA));
+    }
+
+    @Test
+    public void getPersonsContaining_personsChanged_indexUpdated() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON, HOON));
+        assertEquals(Arrays.asList(BENSON, HOON), addressBook.getPersonsContaining("EIER"));
+        assertEquals(List.of(HOON), addressBook.getPersonsContaining("@hoonm"));
+        assertEquals(List.of(ALICE), addressBook.getPersonsContaining("alice@"));
+
+        Person editedHoon = new PersonBuilder(HOON).withName("Hoon Mayer").withEmail("hoon@u.nus.edu").build();
+        addressBook.setPerson(HOON, editedHoon);
+        assertEquals(List.of(BENSON), addressBook.getPersonsContaining("eier"));
+        assertEquals(List.of(editedHoon), addressBook.getPersonsContaining("@u.nus.edu"));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(List.of(), addressBook.getPersonsContaining("eier"));
+    }
+
+    @Test
+    public void getPersonsWithPrefix_personsChanged_indexesUpdated() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON, HOON));
+        assertEquals(Arrays.asList(BENSON, HOON), addressBook.getPersonsWithNamePrefix("mei"));
+        assertEquals(List.of(HOON), addressBook.getPersonsWithNamePrefix("HOON M"));
+        assertEquals(List.of(HOON), addressBook.getPersonsWithTelegramUsernamePrefix("@hoon"));
+        assertEquals(Arrays.asList(ALICE, HOON), addressBook.getPersonsWithSessionPrefix("s1"));
+
+        Person editedHoon = new PersonBuilder(HOON).withName("Hoon Mayer").withTelegram("@hmayer").build();
+        addressBook.setPerson(HOON, editedHoon);
+        assertEquals(List.of(BENSON), addressBook.getPersonsWithNamePrefix("mei"));
+        assertEquals(List.of(), addressBook.getPersonsWithTelegramUsernamePrefix("hoon"));
+        assertEquals(List.of(editedHoon), addressBook.getPersonsWithTelegramUsernamePrefix("HM"));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(editedHoon), addressBook.getPersonsWithSessionPrefix("S1"));
+    }
+
+    @Test
+    public void replacePersons_fieldsChanged_indexesUpdated() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withSession(VALID_SESSION_BOB).build();
+        addressBook.replacePersons(Map.of(ALICE, editedAlice));
+
+        assertEquals(Arrays.asList(editedAlice, BENSON), addressBook.getPersonList());
+        assertEquals(List.of(), addressBook.getPersonsInSession(ALICE.getSession().get()));
+        assertEquals(List.of(editedAlice), addressBook.getPersonsInSession(new Session(VALID_SESSION_BOB)));
+
+        addressBook.removePersons(List.of(editedAlice, BENSON));
+        assertEquals(List.of(), addressBook.getPersonsOfType(BENSON.getType()));
+    }
+
+    @Test
+    public void getSnapshot_laterModifications_snapshotUnchanged() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON));
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withSession(VALID_SESSION_BOB).build());
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void resetData_fromSnapshot_restoresContentsAndIndexes() {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON));
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        addressBook.removePersons(Arrays.asList(ALICE, BENSON));
+
+        addressBook.resetData(snapshot);
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertEquals(List.of(ALICE), addressBook.getPersonsInSession(ALICE.getSession().get()));
+        assertEquals(snapshot.getPersonList(), addressBook.getSnapshot().getPersonList());
+    }
+
+    @Test
+    public void indexLookups_sameAsScanningPersonList() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        PersonCounts counts = new PersonCounts();
+        typicalAddressBook.getPersonList().forEach(counts::add);
+        assertEquals(counts.toStatistics(), typicalAddressBook.getStatistics());
+        for (Person person : typicalAddressBook.getPersonList()) {
+            person.getSession().ifPresent(session -> assertEquals(
+                    scan(typicalAddressBook, other -> other.getSession().equals(Optional.of(session))),
+                    typicalAddressBook.getPersonsInSession(session)));
+            person.getTelegramUsername().ifPresent(username -> assertEquals(
+                    scan(typicalAddressBook, other -> other.getTelegramUsername().equals(Optional.of(username))),
+                    typicalAddressBook.getPersonsWithTelegramUsername(username)));
+            List<Person> ofType = scan(typicalAddressBook, other -> other.getType().equals(person.getType()));
+            assertEquals(ofType, typicalAddressBook.getPersonsOfType(person.getType()));
+            assertEquals(ofType.size(), typicalAddressBook.countPersonsOfType(person.getType()));
+            person.getSession().ifPresent(session -> assertEquals(
+                    typicalAddressBook.getPersonsInSession(session).size(),
+                    typicalAddressBook.countPersonsInSession(session)));
+            assertEquals(scan(typicalAddressBook, other -> other.getEmail().equals(person.getEmail())),
+                    typicalAddressBook.getPersonsWithEmail(person.getEmail()));
+            assertEquals(scan(typicalAddressBook, other -> other.getPhone().equals(person.getPhone())),
+                    typicalAddressBook.getPersonsWithPhone(person.getPhone()));
+            for (String word : person.getName().getCaseFoldedWords()) {
+                List<Person> withWord = scan(typicalAddressBook,
+                        other -> other.getName().getCaseFoldedWords().contains(word));
+                assertEquals(withWord, typicalAddressBook.getPersonsWithNameWord(word));
+                assertEquals(withWord.size(), typicalAddressBook.countPersonsWithNameWord(word));
+                String code = StringUtil.phoneticCode(word);
+                assertEquals(scan(typicalAddressBook, other -> other.getName().getPhoneticCodes().contains(code)),
+                        typicalAddressBook.getPersonsWithNameSoundingLike(word));
+                assertEquals(new HashSet<>(scan(typicalAddressBook, other -> other.getName().getCaseFoldedWords()
+                                .stream().anyMatch(nameWord -> StringUtil.editDistance(nameWord, word) <= 2))),
+                        new HashSet<>(typicalAddressBook.getPersonsWithNameWordWithin(word, 2)));
+            }
+            for (String substring : List.of(person.getName().fullName.substring(1, 3), person.getEmail().value)) {
+                assertEquals(new HashSet<>(scan(typicalAddressBook, other -> other.getSubstringSearchableFields()
+                                .stream().anyMatch(field -> StringUtil.containsSubstringIgnoreCase(field, substring)))),
+                        new HashSet<>(typicalAddressBook.getPersonsContaining(substring)));
+            }
+            for (String prefix : List.of(person.getName().fullName.substring(0, 2), person.getName().fullName)) {
+                String foldedPrefix = StringUtil.foldCase(prefix);
+                assertEquals(new HashSet<>(scan(typicalAddressBook, other -> other.getName().getCaseFoldedWordSuffixes()
+                                .stream().anyMatch(suffix -> suffix.startsWith(foldedPrefix)))),
+                        new HashSet<>(typicalAddressBook.getPersonsWithNamePrefix(prefix)));
+            }
+        }
+    }
+
+    @Test
+    public void getPersonsMatching_largeRoster_sameAsScanningPersonList() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < AddressBook.PARALLEL_SCAN_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        addressBook.setPersons(persons);
+        Predicate<Person> endsInSeven = person -> person.getName().fullName.endsWith("7");
+        assertEquals(new HashSet<>(scan(addressBook, endsInSeven)), addressBook.getPersonsMatching(endsInSeven));
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} that satisfy {@code predicate}, found by scanning its persons list.
+     */
+    private static List<Person> scan(AddressBook addressBook, Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FieldMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
+
+public class AllMatchPredicateTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final IndexedPredicate students = FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT));
+    private final IndexedPredicate inSessionOne = FieldMatchesPredicate.ofSessions(List.of(Session.of("S1")));
+    private final IndexedPredicate namedAlice = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AllMatchPredicate(null));
+    }
+
+    @Test
+    public void resolve_noCriteria_everyPersonMatches() {
+        AllMatchPredicate predicate = new AllMatchPredicate(List.of());
+        assertTrue(predicate.test(ALICE));
+        assertEquals(new HashSet<>(addressBook.getPersonList()), predicate.resolve(addressBook));
+        assertEquals(addressBook.getPersonList().size(), predicate.estimateCount(addressBook));
+    }
+
+    @Test
+    public void test_allCriteriaMatch_returnsTrue() {
+        assertTrue(new AllMatchPredicate(Arrays.asList(students, inSessionOne)).test(ALICE));
+        assertFalse(new AllMatchPredicate(Arrays.asList(students, inSessionOne)).test(ELLE));
+    }
+
+    @Test
+    public void plan_criteria_mostSelectiveFirst() {
+        AllMatchPredicate predicate = new AllMatchPredicate(Arrays.asList(students, inSessionOne));
+        assertEquals(Arrays.asList(inSessionOne, students), predicate.plan(addressBook));
+        assertEquals(1, predicate.estimateCount(addressBook));
+    }
+
+    @Test
+    public void resolve_onlyMostSelectiveCriterionResolved() {
+        IndexedPredicate everyone = new UnresolvablePredicate();
+        AllMatchPredicate predicate = new AllMatchPredicate(Arrays.asList(everyone, students,
+                new NameContainsKeywordsPredicate(List.of("meyer"))));
+        assertEquals(Set.of(ELLE), predicate.resolve(addressBook));
+    }
+
+    @Test
+    public void refines() {
+        AllMatchPredicate predicate = new AllMatchPredicate(Arrays.asList(students, inSessionOne));
+
+        // any one criterion, or all of them, refine the predicate
+        assertTrue(predicate.refines(students));
+        assertTrue(predicate.refines(new AllMatchPredicate(List.of(inSessionOne))));
+        assertTrue(new AllMatchPredicate(Arrays.asList(inSessionOne, students, namedAlice)).refines(predicate));
+        assertTrue(predicate.refines(new AllMatchPredicate(List.of())));
+
+        assertFalse(new AllMatchPredicate(List.of(students)).refines(predicate));
+        assertFalse(predicate.refines(namedAlice));
+    }
+
+    @Test
+    public void equals() {
+        AllMatchPredicate predicate = new AllMatchPredicate(Arrays.asList(students, inSessionOne));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new AllMatchPredicate(Arrays.asList(students, inSessionOne))));
+        assertFalse(predicate.equals(new AllMatchPredicate(List.of(students))));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(students));
+    }
+
+    /**
+     * A criterion that every person satisfies, but that must not be resolved because it is the least selective.
+     */
+    private static class UnresolvablePredicate implements IndexedPredicate {
+        @Override
+        public boolean test(Person person) {
+            return true;
+        }
+
+        @Override
+        public Collection<Person> resolve(AddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FieldMatchesPredicate;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
+
+public class AnyMatchPredicateTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final IndexedPredicate students = FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT));
+    private final IndexedPredicate inSessionTwo = FieldMatchesPredicate.ofSessions(List.of(Session.of("S2")));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AnyMatchPredicate(null));
+    }
+
+    @Test
+    public void test_anyCriterionMatches_returnsTrue() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(Arrays.asList(students, inSessionTwo));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void resolve_criteria_unionOfMatches() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(Arrays.asList(students, inSessionTwo));
+        assertEquals(Set.of(ALICE, BENSON, ELLE), predicate.resolve(addressBook));
+        assertEquals(3, predicate.estimateCount(addressBook));
+    }
+
+    @Test
+    public void resolve_noCriteria_noPersonMatches() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(List.of());
+        assertFalse(predicate.test(ALICE));
+        assertEquals(Set.of(), predicate.resolve(addressBook));
+        assertEquals(0, predicate.estimateCount(addressBook));
+    }
+
+    @Test
+    public void estimateCount_overlappingCriteria_cappedAtRosterSize() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(Arrays.asList(new AllMatchPredicate(List.of()),
+                students));
+        assertEquals(addressBook.getPersonList().size(), predicate.estimateCount(addressBook));
+    }
+
+    @Test
+    public void refines() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(Arrays.asList(students, inSessionTwo));
+        assertTrue(students.refines(predicate));
+        assertTrue(new AnyMatchPredicate(List.of(inSessionTwo)).refines(predicate));
+        assertTrue(new AnyMatchPredicate(List.of()).refines(students));
+
+        assertFalse(predicate.refines(students));
+        assertFalse(new AllMatchPredicate(List.of()).refines(predicate));
+    }
+
+    @Test
+    public void equals() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(Arrays.asList(students, inSessionTwo));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new AnyMatchPredicate(Arrays.asList(students, inSessionTwo))));
+        assertFalse(predicate.equals(new AnyMatchPredicate(List.of(students))));
+        assertFalse(predicate.equals(new AllMatchPredicate(Arrays.asList(students, inSessionTwo))));
+        assertFalse(predicate.equals(null));
+    }
+}
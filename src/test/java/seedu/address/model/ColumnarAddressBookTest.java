@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    private final AddressBook typicalAddressBook = getTypicalAddressBook();
+    private final ColumnarAddressBook columnarAddressBook =
+            new ColumnarAddressBook(typicalAddressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ColumnarAddressBook(null));
+    }
+
+    @Test
+    public void constructor_noPersons_emptyPersonList() {
+        assertEquals(Collections.emptyList(), new ColumnarAddressBook(List.of()).getPersonList());
+    }
+
+    @Test
+    public void constructor_duplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        assertThrows(DuplicatePersonException.class, () -> new ColumnarAddressBook(List.of(ALICE, editedAlice)));
+    }
+
+    @Test
+    public void getPersonList_samePersonsAsSource() {
+        assertEquals(typicalAddressBook.getPersonList(), columnarAddressBook.getPersonList());
+        assertEquals(typicalAddressBook, new AddressBook(columnarAddressBook));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> columnarAddressBook.getPersonList().remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                columnarAddressBook.getPersonList().get(typicalAddressBook.getPersonList().size()));
+    }
+
+    @Test
+    public void equals() {
+        ColumnarAddressBook copy = new ColumnarAddressBook(typicalAddressBook.getPersonList());
+        assertTrue(columnarAddressBook.equals(columnarAddressBook));
+        assertTrue(columnarAddressBook.equals(copy));
+        assertEquals(columnarAddressBook.hashCode(), copy.hashCode());
+        assertFalse(columnarAddressBook.equals(null));
+        assertFalse(columnarAddressBook.equals(typicalAddressBook));
+        assertFalse(columnarAddressBook.equals(new ColumnarAddressBook(List.of())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = ColumnarAddressBook.class.getCanonicalName() + "{persons="
+                + columnarAddressBook.getPersonList() + "}";
+        assertEquals(expected, columnarAddressBook.toString());
+    }
+}
@@ -7,16 +7,28 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortKey;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +100,259 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonsInSession_personInSession_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE), modelManager.getPersonsInSession(ALICE.getSession().get()));
+        assertEquals(List.of(BENSON), modelManager.getPersonsWithEmail(BENSON.getEmail()));
+    }
+
+    @Test
+    public void deletePersons_existingPersons_removesAllAndUpdatesIndexes() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        modelManager.deletePersons(List.of(ALICE));
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertEquals(List.of(), modelManager.getPersonsInSession(ALICE.getSession().get()));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywordsThenModified_filterKeptInSync() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier", "alice")));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_parallelFilterThenModified_filterKeptInSync() {
+        ModelManager parallelModelManager = new ModelManager(new AddressBook(), new UserPrefs(), 0);
+        parallelModelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Predicate<Person> notMeier = person -> !person.getName().fullName.endsWith("Meier");
+        parallelModelManager.updateFilteredPersonList(notMeier);
+        assertEquals(Arrays.asList(ALICE, CARL), parallelModelManager.getFilteredPersonList());
+
+        parallelModelManager.deletePerson(ALICE);
+        assertEquals(List.of(CARL), parallelModelManager.getFilteredPersonList());
+
+        parallelModelManager.setPerson(CARL, ALICE);
+        assertEquals(List.of(ALICE), parallelModelManager.getFilteredPersonList());
+
+        ModelManager sequentialModelManager = new ModelManager(
+                new AddressBookBuilder().withPerson(BENSON).withPerson(ALICE).build(), new UserPrefs());
+        sequentialModelManager.updateFilteredPersonList(notMeier);
+        assertEquals(sequentialModelManager.getFilteredPersonList(), parallelModelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_parallelRefinement_onlyListedPersonsTested() {
+        ModelManager parallelModelManager = new ModelManager(new AddressBook(), new UserPrefs(), 0);
+        parallelModelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        parallelModelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier", "alice")));
+        parallelModelManager.updateFilteredPersonList(new RefiningPredicate(ALICE::equals));
+        assertEquals(List.of(ALICE), parallelModelManager.getFilteredPersonList());
+        assertEquals(1, parallelModelManager.getFilteredPersonCount());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinement_onlyListedPersonsTested() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier", "alice")));
+        modelManager.updateFilteredPersonList(new RefiningPredicate(ALICE::equals));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinement_predicateTestedOncePerListedPerson() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        RefiningPredicate refinement = new RefiningPredicate(DANIEL::equals);
+        modelManager.updateFilteredPersonList(refinement);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(2, refinement.testCount);
+
+        // removing persons tests no one, and an added person is tested once
+        modelManager.deletePerson(BENSON);
+        assertEquals(2, refinement.testCount);
+        modelManager.addPersons(List.of(new PersonBuilder().withName("Carl Meier").build()));
+        assertEquals(3, refinement.testCount);
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedFilter_cachedUntilModified() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        CountingPredicate predicate = new CountingPredicate(new NameContainsKeywordsPredicate(List.of("alice")));
+        modelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(1, predicate.resolveCount);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        // the cached matches are shown as they are, without testing any person
+        assertEquals(0, predicate.testCount);
+
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(2, predicate.resolveCount);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_withComparator_sortedUntilNextFilter() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_thenModified_orderKeptAcrossFilters() {
+        modelManager.addPersons(Arrays.asList(BENSON, CARL));
+        modelManager.sortFilteredPersonList(SortKey.comparing(List.of(SortKey.NAME)).reversed());
+        assertEquals(Arrays.asList(CARL, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.addPersons(List.of(ALICE));
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice", "carl")));
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(null);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(BENSON, CARL, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void isDisplayed_filteredSortedAndPaged_trueOnlyForPersonsOnThePage() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        modelManager.updateFilteredPersonList(person -> !person.equals(CARL));
+        modelManager.sortFilteredPersonList(SortKey.comparing(List.of(SortKey.NAME)).reversed());
+        modelManager.setFilteredPersonListPage(new Page(1, 2));
+        assertEquals(Arrays.asList(ELLE, DANIEL), modelManager.getFilteredPersonList());
+
+        assertTrue(modelManager.isDisplayed(ELLE));
+        assertTrue(modelManager.isDisplayed(DANIEL));
+        assertFalse(modelManager.isDisplayed(BENSON)); // on the next page
+        assertFalse(modelManager.isDisplayed(CARL)); // filtered out
+        assertFalse(modelManager.isDisplayed(new PersonBuilder(ELLE).withSession("G9").build())); // edited copy
+        assertFalse(modelManager.isDisplayed(new PersonBuilder().withName("Zed").build())); // not in address book
+    }
+
+    @Test
+    public void setFilteredPersonListPage_thenModified_pageShownUntilNextFilter() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        modelManager.setFilteredPersonListPage(new Page(2, 2));
+        assertEquals(Arrays.asList(CARL, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(5, modelManager.getFilteredPersonCount());
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(DANIEL, ELLE), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(SortKey.comparing(List.of(SortKey.NAME)).reversed());
+        assertEquals(Arrays.asList(CARL, BENSON), modelManager.getFilteredPersonList());
+
+        // a page past the end is empty
+        modelManager.setFilteredPersonListPage(new Page(3, 2));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ELLE, DANIEL, CARL, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_withPage_pageShownInOneChangeAndFoundAgainAfterChanges() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        AtomicInteger changeCount = new AtomicInteger();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            changeCount.incrementAndGet();
+        });
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, Model.NO_LIMIT, new Page(1, 2));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(5, modelManager.getFilteredPersonCount());
+        assertEquals(1, changeCount.get());
+
+        // only the persons up to the end of the page are kept, so the page is found again in the new order
+        modelManager.sortFilteredPersonList(SortKey.comparing(List.of(SortKey.NAME)).reversed());
+        assertEquals(Arrays.asList(ELLE, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zoe Pauline").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, ELLE), modelManager.getFilteredPersonList());
+        modelManager.deletePerson(ELLE);
+        assertEquals(Arrays.asList(editedAlice, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(4, modelManager.getFilteredPersonCount());
+    }
+
+    @Test
+    public void updateFilteredPersonList_withLimit_firstPersonsListedUntilNextFilter() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, 2);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(2, modelManager.getFilteredPersonCount());
+
+        modelManager.sortFilteredPersonList(SortKey.comparing(List.of(SortKey.NAME)).reversed());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, 2);
+        assertEquals(Arrays.asList(ELLE, DANIEL), modelManager.getFilteredPersonList());
+
+        // an edited person stays listed, but persons beyond the limit are not brought in
+        Person editedDaniel = new PersonBuilder(DANIEL).withSession("G9").build();
+        modelManager.setPerson(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(ELLE, editedDaniel), modelManager.getFilteredPersonList());
+        modelManager.deletePerson(ELLE);
+        assertEquals(List.of(editedDaniel), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(editedDaniel, CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedFilterWithLimit_laterFilterNotRefinedFromLimitedList() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier", "kurz")), 1);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(SortKey.comparing(List.of(SortKey.NAME)).reversed());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier", "kurz")), 2);
+        assertEquals(Arrays.asList(DANIEL, CARL), modelManager.getFilteredPersonList());
+
+        // refines the limited filter, but must find the persons beyond its limit too
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(Arrays.asList(DANIEL, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_withLimit_keepsFirstPersonsInNewOrder() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice", "carl", "elle")));
+        modelManager.sortFilteredPersonList(SortKey.comparing(List.of(SortKey.NAME)).reversed(), 2);
+        assertEquals(Arrays.asList(ELLE, CARL), modelManager.getFilteredPersonList());
+
+        // address book order
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.sortFilteredPersonList(null, 3);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        assertThrows(IllegalArgumentException.class, () -> modelManager.sortFilteredPersonList(null, 0));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -129,4 +394,57 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * A predicate that counts how many times its matches are resolved, and how many persons it tests.
+     */
+    private static class CountingPredicate implements IndexedPredicate {
+        private final IndexedPredicate predicate;
+        private int resolveCount;
+        private int testCount;
+
+        CountingPredicate(IndexedPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            testCount++;
+            return predicate.test(person);
+        }
+
+        @Override
+        public Collection<Person> resolve(AddressBook addressBook) {
+            resolveCount++;
+            return predicate.resolve(addressBook);
+        }
+    }
+
+    /**
+     * A predicate that refines every other predicate, and so must only be tested against the persons listed.
+     */
+    private static class RefiningPredicate implements IndexedPredicate {
+        private final Predicate<Person> predicate;
+        private int testCount;
+
+        RefiningPredicate(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            testCount++;
+            return predicate.test(person);
+        }
+
+        @Override
+        public Collection<Person> resolve(AddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean refines(Predicate<Person> other) {
+            return true;
+        }
+    }
 }
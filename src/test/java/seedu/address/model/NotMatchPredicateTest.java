@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FieldMatchesPredicate;
+import seedu.address.model.person.Type;
+
+public class NotMatchPredicateTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final IndexedPredicate students = FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NotMatchPredicate(null));
+    }
+
+    @Test
+    public void test_criterionNotMatched_returnsTrue() {
+        NotMatchPredicate predicate = new NotMatchPredicate(students);
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(CARL));
+    }
+
+    @Test
+    public void resolve_criterion_everyOtherPerson() {
+        NotMatchPredicate predicate = new NotMatchPredicate(students);
+        assertEquals(addressBook.getPersonList().size() - 2, predicate.resolve(addressBook).size());
+        assertTrue(predicate.resolve(addressBook).contains(CARL));
+        assertFalse(predicate.resolve(addressBook).contains(ALICE));
+    }
+
+    @Test
+    public void refines() {
+        IndexedPredicate tasOrStudents = FieldMatchesPredicate.ofTypes(List.of(Type.TA, Type.STUDENT));
+        assertTrue(new NotMatchPredicate(tasOrStudents).refines(new NotMatchPredicate(students)));
+        assertFalse(new NotMatchPredicate(students).refines(new NotMatchPredicate(tasOrStudents)));
+        assertFalse(new NotMatchPredicate(students).refines(students));
+    }
+
+    @Test
+    public void equals() {
+        NotMatchPredicate predicate = new NotMatchPredicate(students);
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new NotMatchPredicate(FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT)))));
+        assertFalse(predicate.equals(students));
+        assertFalse(predicate.equals(null));
+    }
+}
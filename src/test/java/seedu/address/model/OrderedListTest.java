@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class OrderedListTest {
+
+    // orders strings by their first letter only, so that strings with the same first letter compare equal
+    private static final Comparator<String> BY_FIRST_LETTER = Comparator.comparing(s -> s.charAt(0));
+
+    private final ObservableList<String> source = FXCollections.observableArrayList();
+    private final OrderedList<String> orderedList = new OrderedList<>(source);
+
+    @Test
+    public void setComparator_sortsInStableOrder() {
+        source.addAll(List.of("c1", "a1", "b1", "a2", "c2"));
+        assertOrdered();
+
+        orderedList.setComparator(BY_FIRST_LETTER);
+        assertEquals(List.of("a1", "a2", "b1", "c1", "c2"), orderedList);
+        assertOrdered();
+
+        orderedList.setComparator(null);
+        assertEquals(source, orderedList);
+        assertOrdered();
+    }
+
+    @Test
+    public void sourceChanged_fewElements_keptInOrder() {
+        orderedList.setComparator(BY_FIRST_LETTER);
+        source.addAll(List.of("c1", "a1", "b1"));
+        assertOrdered();
+
+        source.add(1, "b2");
+        assertEquals(List.of("a1", "b2", "b1", "c1"), orderedList);
+        assertOrdered();
+
+        source.set(0, "a3");
+        assertEquals(List.of("a3", "a1", "b2", "b1"), orderedList);
+        assertOrdered();
+
+        source.remove("b2");
+        source.removeAll(List.of("a1", "b1"));
+        assertEquals(List.of("a3"), orderedList);
+        assertOrdered();
+    }
+
+    @Test
+    public void sourceChanged_manyElements_keptInOrder() {
+        orderedList.setComparator(BY_FIRST_LETTER);
+        Random random = new Random(0);
+        source.addAll(randomStrings(random, 500));
+        assertOrdered();
+
+        for (int i = 0; i < 20; i++) {
+            source.addAll(randomStrings(random, OrderedList.BINARY_INSERTION_LIMIT + i));
+            source.add(random.nextInt(source.size()), randomStrings(random, 1).get(0));
+            source.remove(random.nextInt(source.size()));
+            source.remove(0, random.nextInt(20));
+            assertOrdered();
+        }
+
+        source.setAll(randomStrings(random, 300));
+        assertOrdered();
+        source.clear();
+        assertOrdered();
+    }
+
+    /**
+     * Asserts that the ordered list holds the source elements in comparator order, equal elements in source order,
+     * and that its view and source positions map to each other.
+     */
+    private void assertOrdered() {
+        List<String> expected = new ArrayList<>(source);
+        if (orderedList.getComparator() != null) {
+            expected.sort(orderedList.getComparator());
+        }
+        assertEquals(expected, orderedList);
+        for (int i = 0; i < orderedList.size(); i++) {
+            assertEquals(orderedList.get(i), source.get(orderedList.getSourceIndex(i)));
+            assertEquals(i, orderedList.getViewIndex(orderedList.getSourceIndex(i)));
+        }
+    }
+
+    private static List<String> randomStrings(Random random, int count) {
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            strings.add((char) ('a' + random.nextInt(5)) + Integer.toString(random.nextInt(1000)));
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PageTest {
+
+    @Test
+    public void constructor_nonPositiveArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Page.MESSAGE_CONSTRAINTS, () -> new Page(0, 10));
+        assertThrows(IllegalArgumentException.class, Page.MESSAGE_CONSTRAINTS, () -> new Page(1, 0));
+        assertThrows(IllegalArgumentException.class, Page.MESSAGE_CONSTRAINTS, () -> new Page(-1, 10));
+    }
+
+    @Test
+    public void getOffset() {
+        assertEquals(0, new Page(1, 200).getOffset());
+        assertEquals(400, new Page(3, 200).getOffset());
+        assertEquals(0, Page.ALL.getOffset());
+
+        // capped instead of overflowing
+        assertEquals(Integer.MAX_VALUE, new Page(Integer.MAX_VALUE, Integer.MAX_VALUE).getOffset());
+    }
+
+    @Test
+    public void getPageCount() {
+        assertEquals(1, new Page(1, 200).getPageCount(0));
+        assertEquals(1, new Page(1, 200).getPageCount(200));
+        assertEquals(2, new Page(1, 200).getPageCount(201));
+        assertEquals(1, Page.ALL.getPageCount(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void equals() {
+        Page page = new Page(3, 200);
+
+        // same values -> returns true
+        assertTrue(page.equals(new Page(3, 200)));
+        assertEquals(page.hashCode(), new Page(3, 200).hashCode());
+
+        // same object -> returns true
+        assertTrue(page.equals(page));
+
+        // null -> returns false
+        assertFalse(page.equals(null));
+
+        // different types -> returns false
+        assertFalse(page.equals(3));
+
+        // different number or size -> returns false
+        assertFalse(page.equals(new Page(2, 200)));
+        assertFalse(page.equals(new Page(3, 100)));
+    }
+}
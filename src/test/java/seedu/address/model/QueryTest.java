@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FieldMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Type;
+
+public class QueryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final IndexedPredicate studentsCriterion = FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT));
+    private final IndexedPredicate inSessionOneCriterion =
+            FieldMatchesPredicate.ofSessions(List.of(Session.of("S1")));
+    private final Query students = Query.of(studentsCriterion);
+    private final Query inSessionOne = Query.of(inSessionOneCriterion);
+    private final Query tas = Query.of(FieldMatchesPredicate.ofTypes(List.of(Type.TA)));
+
+    @Test
+    public void simplify_nestedJunctions_flattened() {
+        Query nested = Query.and(Arrays.asList(students, Query.and(Arrays.asList(inSessionOne, tas))));
+        assertEquals(Query.and(Arrays.asList(students, inSessionOne, tas)), nested.simplify());
+    }
+
+    @Test
+    public void simplify_constants_folded() {
+        // identities are dropped
+        assertEquals(students, Query.and(Arrays.asList(students, Query.TRUE)).simplify());
+        assertEquals(students, Query.or(Arrays.asList(Query.FALSE, students)).simplify());
+
+        // absorbing elements decide the junction
+        assertEquals(Query.FALSE, Query.and(Arrays.asList(students, Query.FALSE)).simplify());
+        assertEquals(Query.TRUE, Query.or(Arrays.asList(students, Query.TRUE)).simplify());
+
+        // negated constants
+        assertEquals(Query.FALSE, Query.not(Query.TRUE).simplify());
+        assertEquals(Query.TRUE, Query.not(Query.and(List.of(Query.FALSE))).simplify());
+    }
+
+    @Test
+    public void simplify_complementaryClauses_folded() {
+        assertEquals(Query.FALSE, Query.and(Arrays.asList(students, tas, Query.not(students))).simplify());
+        assertEquals(Query.TRUE, Query.or(Arrays.asList(Query.not(Query.not(Query.not(tas))), tas)).simplify());
+    }
+
+    @Test
+    public void simplify_repeatedClauses_removed() {
+        assertEquals(Query.or(Arrays.asList(students, tas)),
+                Query.or(Arrays.asList(students, tas, Query.or(List.of(students)))).simplify());
+        assertEquals(students, Query.not(Query.not(students)).simplify());
+    }
+
+    @Test
+    public void compile_conjunction_mostSelectiveClauseFirst() {
+        IndexedPredicate compiled = Query.and(Arrays.asList(students, inSessionOne)).compile(addressBook);
+        assertEquals(new AllMatchPredicate(Arrays.asList(inSessionOneCriterion, studentsCriterion)), compiled);
+        assertEquals(Set.of(ALICE), compiled.resolve(addressBook));
+    }
+
+    @Test
+    public void compile_disjunction_leastSelectiveClauseFirst() {
+        IndexedPredicate compiled = Query.or(Arrays.asList(inSessionOne, students)).compile(addressBook);
+        assertEquals(new AnyMatchPredicate(Arrays.asList(studentsCriterion, inSessionOneCriterion)), compiled);
+        assertEquals(Set.of(ALICE, ELLE), compiled.resolve(addressBook));
+    }
+
+    @Test
+    public void compile_negation_testsEveryPerson() {
+        Query query = Query.and(Arrays.asList(Query.or(Arrays.asList(students, tas)),
+                Query.not(Query.of(new NameContainsKeywordsPredicate(List.of("Meyer"))))));
+        IndexedPredicate compiled = query.compile(addressBook);
+        assertEquals(Set.of(ALICE, BENSON), compiled.resolve(addressBook));
+        assertTrue(compiled.test(ALICE));
+        assertFalse(compiled.test(ELLE));
+    }
+
+    @Test
+    public void equals() {
+        Query query = Query.and(Arrays.asList(students, tas));
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(Query.and(Arrays.asList(students, tas))));
+        assertFalse(query.equals(Query.or(Arrays.asList(students, tas))));
+        assertFalse(query.equals(Query.and(Arrays.asList(tas, students))));
+        assertFalse(query.equals(null));
+        assertFalse(Query.not(students).equals(students));
+    }
+
+    @Test
+    public void hashCode_equalQueries_equalHashCodes() {
+        Query query = Query.or(Arrays.asList(Query.not(students), Query.and(Arrays.asList(tas, inSessionOne))));
+        Query sameQuery = Query.or(Arrays.asList(Query.not(Query.of(studentsCriterion)),
+                Query.and(Arrays.asList(tas, Query.of(inSessionOneCriterion)))));
+        assertEquals(query.hashCode(), sameQuery.hashCode());
+
+        // equal queries are found in hash-based collections
+        assertTrue(Set.of(query).contains(sameQuery));
+    }
+}
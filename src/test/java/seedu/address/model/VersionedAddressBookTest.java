@@ -0,0 +1,189 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.VersionedAddressBook.NoRedoableStateException;
+import seedu.address.model.VersionedAddressBook.NoUndoableStateException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Type;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    @Test
+    public void constructor_noHistory() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_afterCommits_restoresPreviousStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), versionedAddressBook);
+        assertTrue(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(new AddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertThrows(NoUndoableStateException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void undoAndRedo_afterEditsAndUncommittedChanges_indexesMatchRestoredPersons() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").withSession("G9").build();
+        versionedAddressBook.setPerson(BENSON, editedBenson);
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.setPersons(List.of(DANIEL, CARL));
+        versionedAddressBook.commit();
+        // left uncommitted
+        versionedAddressBook.addPerson(ALICE);
+
+        versionedAddressBook.undo();
+        assertIndexesMatch(new AddressBookBuilder().withPerson(editedBenson).withPerson(CARL).build(),
+                versionedAddressBook);
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertIndexesMatch(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                versionedAddressBook);
+
+        versionedAddressBook.redo();
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.redo();
+        assertIndexesMatch(new AddressBookBuilder().withPerson(editedBenson).withPerson(CARL).build(),
+                versionedAddressBook);
+        versionedAddressBook.redo();
+        assertIndexesMatch(new AddressBookBuilder().withPerson(DANIEL).withPerson(CARL).build(),
+                versionedAddressBook);
+    }
+
+    @Test
+    public void undo_personRemovedAndAddedBackInLargeBook_restoredToItsPlace() {
+        AddressBookBuilder builder = new AddressBookBuilder();
+        for (int i = 0; i < 40; i++) {
+            builder.withPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        AddressBook initialState = builder.build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(initialState);
+        Person moved = initialState.getPersonList().get(5);
+        versionedAddressBook.removePerson(moved);
+        versionedAddressBook.addPerson(moved);
+        versionedAddressBook.commit();
+        assertEquals(39, versionedAddressBook.indexOf(moved));
+
+        versionedAddressBook.undo();
+        assertIndexesMatch(initialState, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(39, versionedAddressBook.indexOf(moved));
+        assertEquals(initialState.getPersonList().get(6), versionedAddressBook.getPersonList().get(5));
+    }
+
+    @Test
+    public void setPersons_duplicatePersons_uncommittedChangesStillUndone() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+
+        assertThrows(DuplicatePersonException.class, () -> versionedAddressBook.setPersons(List.of(DANIEL, DANIEL)));
+        versionedAddressBook.undo();
+        assertIndexesMatch(new AddressBookBuilder().withPerson(ALICE).build(), versionedAddressBook);
+    }
+
+    /**
+     * Asserts that {@code actual} holds the persons of {@code expected} and finds the same persons through its indexes.
+     */
+    private static void assertIndexesMatch(AddressBook expected, AddressBook actual) {
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(i, actual.indexOf(expected.getPersonList().get(i)));
+        }
+        assertEquals(expected.getStatistics(), actual.getStatistics());
+        Stream.of(ALICE, BENSON, CARL, DANIEL).flatMap(person -> person.getName().getCaseFoldedWords().stream())
+                .forEach(word -> assertEquals(new HashSet<>(expected.getPersonsWithNameWord(word)),
+                        new HashSet<>(actual.getPersonsWithNameWord(word))));
+        for (Type type : List.of(Type.STUDENT, Type.TA, Type.INSTRUCTOR, Type.STAFF)) {
+            assertEquals(new HashSet<>(expected.getPersonsOfType(type)), new HashSet<>(actual.getPersonsOfType(type)));
+        }
+        assertEquals(expected.getPersonsWithNamePrefix("ben"), actual.getPersonsWithNamePrefix("ben"));
+    }
+
+    @Test
+    public void redo_afterUndo_restoresUndoneState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), versionedAddressBook);
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_afterUndo_purgesRedoableStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(new AddressBook(), versionedAddressBook);
+    }
+
+    @Test
+    public void commit_beyondLimit_discardsOldestStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        for (int i = 0; i < VersionedAddressBook.MAX_UNDO_STEPS; i++) {
+            versionedAddressBook.commit();
+        }
+
+        int undoCount = 0;
+        while (versionedAddressBook.canUndo()) {
+            versionedAddressBook.undo();
+            undoCount++;
+        }
+        assertEquals(VersionedAddressBook.MAX_UNDO_STEPS, undoCount);
+        // the state before ALICE was added is no longer reachable
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+    }
+}
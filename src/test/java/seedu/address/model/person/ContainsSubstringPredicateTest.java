@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class ContainsSubstringPredicateTest {
+
+    @Test
+    public void equals() {
+        ContainsSubstringPredicate firstPredicate = new ContainsSubstringPredicate(List.of("first"));
+        ContainsSubstringPredicate secondPredicate = new ContainsSubstringPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new ContainsSubstringPredicate(List.of("first"))));
+        assertEquals(firstPredicate.hashCode(), new ContainsSubstringPredicate(List.of("first")).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(List.of("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different substrings -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_fieldContainsSubstring_returnsTrue() {
+        ContainsSubstringPredicate predicate = new ContainsSubstringPredicate(List.of("oli"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Charlotte Oliveiro").build()));
+
+        predicate = new ContainsSubstringPredicate(List.of("@U.NUS.EDU"));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("e0123456@u.nus.edu").build()));
+
+        predicate = new ContainsSubstringPredicate(Arrays.asList("xyz", "@hoon"));
+        assertTrue(predicate.test(new PersonBuilder().withTelegram("@hoonmei").build()));
+    }
+
+    @Test
+    public void test_noFieldContainsSubstring_returnsFalse() {
+        ContainsSubstringPredicate predicate = new ContainsSubstringPredicate(Arrays.asList("oli", "u.nus"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").withEmail("alice@example.com").build()));
+
+        // other fields are not searched
+        predicate = new ContainsSubstringPredicate(List.of("9435"));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("94351253").build()));
+    }
+
+    @Test
+    public void resolve_substrings_returnsSameAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        for (String substring : List.of("ei", "e", "@example.com", "EXAMPLE", "best", "@geo", "n@", "qq")) {
+            ContainsSubstringPredicate predicate = new ContainsSubstringPredicate(List.of(substring));
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, predicate.resolve(addressBook), substring);
+        }
+    }
+
+    @Test
+    public void refines() {
+        ContainsSubstringPredicate broader = new ContainsSubstringPredicate(Arrays.asList("oli", "nus"));
+        assertTrue(new ContainsSubstringPredicate(Arrays.asList("OLIVE", "u.nus.edu")).refines(broader));
+        assertFalse(new ContainsSubstringPredicate(Arrays.asList("olive", "example")).refines(broader));
+        assertFalse(broader.refines(new ContainsSubstringPredicate(List.of("olive"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> substrings = List.of("substring1", "substring2");
+        ContainsSubstringPredicate predicate = new ContainsSubstringPredicate(substrings);
+
+        String expected = ContainsSubstringPredicate.class.getCanonicalName() + "{substrings=" + substrings + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
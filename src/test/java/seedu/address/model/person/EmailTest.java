@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -66,6 +69,27 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_randomInputs_sameAsValidationRegex() {
+        Random random = new Random(0);
+        String alphabet = "aZ9_+.-@";
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                test.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String email = test.toString();
+            assertEquals(email.matches(Email.VALIDATION_REGEX), Email.isValidEmail(email), email);
+        }
+    }
+
+    @Test
+    public void isValidEmail_longInvalidDomain_returnsFalse() {
+        // backtracks exponentially when matched with the validation regex
+        assertFalse(Email.isValidEmail("peter@" + "a-".repeat(5_000) + "a_"));
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldMatchesPredicateTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void refines() {
+        FieldMatchesPredicate<Type> studentsOrTas = FieldMatchesPredicate.ofTypes(Arrays.asList(Type.STUDENT, Type.TA));
+        assertTrue(FieldMatchesPredicate.ofTypes(List.of(Type.TA)).refines(studentsOrTas));
+        assertFalse(studentsOrTas.refines(FieldMatchesPredicate.ofTypes(List.of(Type.TA))));
+        assertFalse(FieldMatchesPredicate.ofSessions(List.of(Session.of("S1"))).refines(studentsOrTas));
+    }
+
+    @Test
+    public void equals() {
+        FieldMatchesPredicate<Type> firstPredicate = FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT));
+        FieldMatchesPredicate<Type> secondPredicate = FieldMatchesPredicate.ofTypes(List.of(Type.TA));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(FieldMatchesPredicate.ofTypes(List.of(Type.STUDENT))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different fields -> returns false
+        assertFalse(FieldMatchesPredicate.ofSessions(List.of()).equals(FieldMatchesPredicate.ofTypes(List.of())));
+    }
+
+    @Test
+    public void test_fieldMatchesAnyValue_returnsTrue() {
+        assertTrue(FieldMatchesPredicate.ofTypes(Arrays.asList(Type.TA, Type.STUDENT)).test(ALICE));
+        assertTrue(FieldMatchesPredicate.ofSessions(List.of(Session.of("S1"))).test(ALICE));
+        assertTrue(FieldMatchesPredicate.ofPhones(List.of(ALICE.getPhone())).test(ALICE));
+        assertTrue(FieldMatchesPredicate.ofEmails(List.of(ALICE.getEmail())).test(ALICE));
+        assertTrue(FieldMatchesPredicate.ofTelegramUsernames(List.of(new TelegramUsername("ALICEP"))).test(ALICE));
+    }
+
+    @Test
+    public void test_fieldDoesNotMatch_returnsFalse() {
+        assertFalse(FieldMatchesPredicate.ofTypes(List.of(Type.TA)).test(ALICE));
+        assertFalse(FieldMatchesPredicate.ofPhones(List.of(BENSON.getPhone())).test(ALICE));
+
+        // absent optional field
+        Person withoutSession = new PersonBuilder().withType("staff").withSession(null).withTelegram(null).build();
+        assertFalse(FieldMatchesPredicate.ofSessions(List.of(Session.of("G1"))).test(withoutSession));
+        assertFalse(FieldMatchesPredicate.ofTelegramUsernames(List.of(new TelegramUsername("@amybee")))
+                .test(withoutSession));
+    }
+
+    @Test
+    public void resolveAndEstimateCount_sameAsTest() {
+        List<FieldMatchesPredicate<?>> predicates = List.of(
+                FieldMatchesPredicate.ofTypes(Arrays.asList(Type.STUDENT, Type.STAFF)),
+                FieldMatchesPredicate.ofSessions(Arrays.asList(Session.of("S1"), Session.of("S3"))),
+                FieldMatchesPredicate.ofPhones(List.of(ELLE.getPhone())),
+                FieldMatchesPredicate.ofEmails(Arrays.asList(ALICE.getEmail(), BENSON.getEmail())),
+                FieldMatchesPredicate.ofTelegramUsernames(List.of(new TelegramUsername("georgeBest"))));
+        for (FieldMatchesPredicate<?> predicate : predicates) {
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(predicate.resolve(addressBook)));
+            assertEquals(expected.size(), predicate.estimateCount(addressBook));
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Type> types = List.of(Type.STUDENT);
+        String expected = FieldMatchesPredicate.class.getCanonicalName() + "{types=" + types + "}";
+        assertEquals(expected, FieldMatchesPredicate.ofTypes(types).toString());
+    }
+}
@@ -3,13 +3,18 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +79,48 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withType("staff").build()));
     }
 
+    @Test
+    public void test_prefixKeyword() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("ALE*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alex Yeoh").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Tan Alexander").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Ale").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bale").build()));
+
+        // the wildcard only counts at the end of a keyword
+        predicate = new NameContainsKeywordsPredicate(List.of("*lex"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alex Yeoh").build()));
+    }
+
+    @Test
+    public void resolve_matchingKeywords_returnsSameAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("meier", "ALICE"));
+        Set<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(predicate.resolve(addressBook)));
+
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("me*", "k*", "Ida"));
+        expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(predicate.resolve(addressBook)));
+
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
+        assertTrue(predicate.resolve(addressBook).isEmpty());
+    }
+
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate broader = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "ca*"));
+
+        // fewer keywords, or keywords covered by a prefix keyword
+        assertTrue(new NameContainsKeywordsPredicate(List.of("alice")).refines(broader));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("Carl", "carol*")).refines(broader));
+
+        // a keyword not covered
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")).refines(broader));
+        assertFalse(new NameContainsKeywordsPredicate(List.of("c*")).refines(broader));
+        assertFalse(broader.refines(new NameContainsKeywordsPredicate(List.of("Alice"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
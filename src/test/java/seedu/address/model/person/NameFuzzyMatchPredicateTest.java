@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameFuzzyMatchPredicateTest {
+
+    @Test
+    public void refines() {
+        NameFuzzyMatchPredicate broader = new NameFuzzyMatchPredicate(Arrays.asList("alx", "yoeh"));
+        assertTrue(new NameFuzzyMatchPredicate(List.of("yoeh")).refines(broader));
+        assertFalse(broader.refines(new NameFuzzyMatchPredicate(List.of("yoeh"))));
+        assertFalse(new NameFuzzyMatchPredicate(List.of("yoeh")).refines(new NameContainsKeywordsPredicate(
+                List.of("yoeh"))));
+    }
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchPredicate firstPredicate = new NameFuzzyMatchPredicate(List.of("first"));
+        NameFuzzyMatchPredicate secondPredicate = new NameFuzzyMatchPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameFuzzyMatchPredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(List.of("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, NameFuzzyMatchPredicate.getMaxDistance("al"));
+        assertEquals(1, NameFuzzyMatchPredicate.getMaxDistance("alx"));
+        assertEquals(2, NameFuzzyMatchPredicate.getMaxDistance("yoeh"));
+    }
+
+    @Test
+    public void test_nameNearKeywords_returnsTrue() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Arrays.asList("alx", "yoeh"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alex Yeoh").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("ALEX Tan").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Yeoh").build()));
+    }
+
+    @Test
+    public void test_nameFarFromKeywords_returnsFalse() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Arrays.asList("alx", "yoeh"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alexander Yang").build()));
+
+        // short keywords must match exactly
+        predicate = new NameFuzzyMatchPredicate(List.of("al"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ali").build()));
+    }
+
+    @Test
+    public void resolve_nearKeywords_returnsSameAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Arrays.asList("mayer", "Karl", "ida"));
+        Set<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(predicate.resolve(addressBook)));
+    }
+
+    @Test
+    public void getRanking_severalMatches_closestFirst() {
+        Person exact = new PersonBuilder().withName("Alex Yeoh").build();
+        Person oneKeyword = new PersonBuilder().withName("Alex Tan").build();
+        Person misspelt = new PersonBuilder().withName("Alec Yeo").build();
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Arrays.asList("alex", "yeoh"));
+
+        List<Person> persons = new ArrayList<>(Arrays.asList(oneKeyword, misspelt, exact));
+        persons.sort(predicate.getRanking());
+        assertEquals(Arrays.asList(exact, misspelt, oneKeyword), persons);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(keywords);
+
+        String expected = NameFuzzyMatchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
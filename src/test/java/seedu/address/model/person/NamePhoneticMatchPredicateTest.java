@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class NamePhoneticMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        NamePhoneticMatchPredicate firstPredicate = new NamePhoneticMatchPredicate(List.of("first"));
+        NamePhoneticMatchPredicate secondPredicate =
+                new NamePhoneticMatchPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NamePhoneticMatchPredicate(List.of("first"))));
+        assertEquals(firstPredicate.hashCode(), new NamePhoneticMatchPredicate(List.of("first")).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameFuzzyMatchPredicate(List.of("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeywords_returnsTrue() {
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(Arrays.asList("lee", "tang"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Li Wei").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice TAN").build()));
+    }
+
+    @Test
+    public void test_nameSoundsDifferent_returnsFalse() {
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(Arrays.asList("lee", "tang"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Leon Teo").build()));
+
+        // keywords without letters match nothing
+        predicate = new NamePhoneticMatchPredicate(List.of("42"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Agent 42").build()));
+    }
+
+    @Test
+    public void resolve_soundAlikeKeywords_returnsSameAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(Arrays.asList("mayer", "Kirz"));
+        Set<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, predicate.resolve(addressBook));
+        assertEquals(4, expected.size());
+        assertEquals(4, predicate.estimateCount(addressBook));
+    }
+
+    @Test
+    public void refines() {
+        NamePhoneticMatchPredicate broader = new NamePhoneticMatchPredicate(Arrays.asList("lee", "tang"));
+        assertTrue(new NamePhoneticMatchPredicate(List.of("Li")).refines(broader));
+        assertFalse(broader.refines(new NamePhoneticMatchPredicate(List.of("Li"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(keywords);
+
+        String expected = NamePhoneticMatchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
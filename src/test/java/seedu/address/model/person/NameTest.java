@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -57,4 +60,31 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getCaseFoldedWords() {
+        assertEquals(List.of("alice", "pauline"), new Name("Alice  PAULINE").getCaseFoldedWords());
+        assertEquals(List.of("r2d2"), new Name("R2D2").getCaseFoldedWords());
+    }
+
+    @Test
+    public void getCaseFoldedWordSuffixes() {
+        assertEquals(List.of("alex yeoh", "yeoh"), new Name("Alex  Yeoh").getCaseFoldedWordSuffixes());
+        assertEquals(List.of("r2d2"), new Name("R2D2").getCaseFoldedWordSuffixes());
+    }
+
+    @Test
+    public void compareTo_alphabeticalIgnoringCase() {
+        assertTrue(new Name("alice").compareTo(new Name("Bob")) < 0);
+        assertTrue(new Name("Alice Tan").compareTo(new Name("alice")) > 0);
+        assertTrue(new Name("Alice").compareTo(new Name("alice")) < 0);
+        assertEquals(0, new Name("Alice").compareTo(new Name("Alice")));
+        assertEquals("alice tan", new Name("Alice Tan").getCaseFoldedName());
+    }
+
+    @Test
+    public void getPhoneticCodes_distinctCodesOfWords() {
+        assertEquals(List.of("M600", "L000"), new Name("Meier Meyer Lee").getPhoneticCodes());
+        assertEquals(List.of("T500"), new Name("Tang 42").getPhoneticCodes());
+    }
 }
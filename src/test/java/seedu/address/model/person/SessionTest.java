@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,14 @@ public class SessionTest {
         assertThrows(IllegalArgumentException.class, () -> new Session(invalidSession));
     }
 
+    @Test
+    public void of_validSession_returnsSharedInstance() {
+        assertSame(Session.of("G17"), Session.of("G17"));
+        assertEquals(new Session("G17"), Session.of("G17"));
+        assertThrows(NullPointerException.class, () -> Session.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Session.of("g17"));
+    }
+
     @Test
     public void isValidSession() {
         // null session
@@ -59,4 +69,12 @@ public class SessionTest {
         // different values -> returns false
         assertFalse(session.equals(new Session("F7")));
     }
+
+    @Test
+    public void compareTo_ordersByLetterThenNumber() {
+        assertTrue(Session.of("G2").compareTo(Session.of("G17")) < 0);
+        assertTrue(Session.of("F17").compareTo(Session.of("G2")) < 0);
+        assertTrue(Session.of("G07").compareTo(Session.of("G7")) < 0);
+        assertEquals(0, Session.of("G17").compareTo(new Session("G17")));
+    }
 }
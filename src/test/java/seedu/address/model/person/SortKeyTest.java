@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SortKeyTest {
+
+    @Test
+    public void of() {
+        assertEquals(SortKey.NAME, SortKey.of("name"));
+        assertEquals(SortKey.SESSION, SortKey.of("SESSION"));
+        assertThrows(IllegalArgumentException.class, SortKey.MESSAGE_CONSTRAINTS, () -> SortKey.of("phone"));
+        assertThrows(NullPointerException.class, () -> SortKey.of(null));
+    }
+
+    @Test
+    public void comparing_ties_brokenByName() {
+        Person amy = new PersonBuilder().withName("amy").withSession("G2").build();
+        Person bob = new PersonBuilder().withName("Bob").withSession("G17").build();
+        Person carl = new PersonBuilder().withName("Carl").withSession("G2").build();
+        Comparator<Person> comparator = SortKey.comparing(List.of(SortKey.SESSION));
+
+        List<Person> persons = Arrays.asList(bob, carl, amy);
+        persons.sort(comparator);
+        assertEquals(Arrays.asList(amy, carl, bob), persons);
+
+        persons.sort(SortKey.comparing(List.of()));
+        assertEquals(Arrays.asList(amy, bob, carl), persons);
+        assertTrue(comparator.compare(amy, amy) == 0);
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class TelegramUsernameTest {
@@ -38,6 +41,22 @@ public class TelegramUsernameTest {
         assertTrue(TelegramUsername.isValidTelegramUsername("@_____")); // underscores
     }
 
+    @Test
+    public void isValidTelegramUsername_randomInputs_sameAsValidationRegex() {
+        Random random = new Random(0);
+        String alphabet = "aZ9_@.";
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(36);
+            for (int j = 0; j < length; j++) {
+                test.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String username = test.toString();
+            assertEquals(username.matches(TelegramUsername.VALIDATION_REGEX),
+                    TelegramUsername.isValidTelegramUsername(username), username);
+        }
+    }
+
     @Test
     public void equals() {
         TelegramUsername telegramUsername = new TelegramUsername("@TestUser");
@@ -60,4 +79,9 @@ public class TelegramUsernameTest {
         // different values -> returns false
         assertFalse(telegramUsername.equals(new TelegramUsername("@TestUser2")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new TelegramUsername("@TestUser").hashCode(), new TelegramUsername("@tEStUsER").hashCode());
+    }
 }
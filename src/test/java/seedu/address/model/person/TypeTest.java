@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class TypeTest {
@@ -19,6 +22,34 @@ public class TypeTest {
         assertThrows(IllegalArgumentException.class, () -> new Type(invalidType));
     }
 
+    @Test
+    public void of_validType_returnsCanonicalInstance() {
+        assertSame(Type.STUDENT, Type.of("student"));
+        assertSame(Type.TA, Type.of("TA")); // case insensitive
+        assertSame(Type.of("instructor"), Type.of("Instructor"));
+        assertThrows(NullPointerException.class, () -> Type.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Type.of("random"));
+    }
+
+    @Test
+    public void of_turkishDefaultLocale_ignoresCase() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "I" lower-cases to a dotless "ı" in Turkish
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertSame(Type.INSTRUCTOR, Type.of("INSTRUCTOR"));
+            assertTrue(Type.isValidType("Instructor"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void isStudent() {
+        assertTrue(new Type("student").isStudent());
+        assertFalse(Type.STAFF.isStudent());
+    }
+
     @Test
     public void isValidType() {
         // null type
@@ -75,4 +106,12 @@ public class TypeTest {
         assertFalse(type3.isStaff());
         assertFalse(type4.isTa());
     }
+
+    @Test
+    public void compareTo_ordersAsListed() {
+        assertTrue(Type.STUDENT.compareTo(Type.TA) < 0);
+        assertTrue(Type.TA.compareTo(Type.INSTRUCTOR) < 0);
+        assertTrue(Type.STAFF.compareTo(Type.INSTRUCTOR) > 0);
+        assertTrue(Type.STAFF.compareTo(Type.of("Staff")) == 0);
+    }
 }
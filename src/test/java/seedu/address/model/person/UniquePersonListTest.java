@@ -7,14 +7,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SESSION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +109,22 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTelegram(VALID_TELEGRAM_BOB).withSession(VALID_SESSION_BOB)
+                .build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +150,158 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersonAndRemove_afterMixedChanges_changeThePersonInPlace() {
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            uniquePersonList.add(person);
+            expected.add(person);
+        }
+        uniquePersonList.setPersons(new ArrayList<>(expected));
+        uniquePersonList.addAll(List.of(ALICE, BENSON));
+        expected.addAll(List.of(ALICE, BENSON));
+
+        for (int i = 0; i < expected.size(); i += 3) {
+            uniquePersonList.remove(expected.remove(i));
+            Person edited = new PersonBuilder(expected.get(i)).withName("Edited " + i).build();
+            uniquePersonList.setPerson(expected.get(i), edited);
+            expected.set(i, edited);
+            assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        }
+        uniquePersonList.replaceAll(Map.of(expected.get(1), CARL));
+        expected.set(1, CARL);
+        uniquePersonList.remove(CARL);
+        expected.remove(1);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expected, uniquePersonList.snapshot());
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTelegram(VALID_TELEGRAM_BOB).withSession(VALID_SESSION_BOB)
+                .build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_existingPerson_removesFromIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void get_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.get(ALICE.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.get(BOB.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.get(new Name(ALICE.getName().fullName.toUpperCase())));
+    }
+
+    @Test
+    public void get_afterManyAddsAndRemoves_findsExactlyTheListedPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            uniquePersonList.add(person);
+            if (i % 3 == 0) {
+                uniquePersonList.remove(person);
+            }
+        }
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            assertEquals(i % 3 == 0 ? Optional.empty() : Optional.of(person), uniquePersonList.get(person.getName()));
+        }
+    }
+
+    @Test
+    public void addAll_newPersons_addedInOneChange() {
+        uniquePersonList.add(ALICE);
+        AtomicInteger changeCount = countChanges();
+        uniquePersonList.addAll(Arrays.asList(BENSON, CARL));
+        assertEquals(1, changeCount.get());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON, BENSON)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removedInOneChange() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        AtomicInteger changeCount = countChanges();
+        uniquePersonList.removeAll(Arrays.asList(ALICE, CARL));
+        assertEquals(1, changeCount.get());
+        assertEquals(List.of(BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndLeavesListUnchanged() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BENSON));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, CARL)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void replaceAll_validReplacements_replacedInPlaceInOneChange() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withSession(VALID_SESSION_BOB).build();
+        AtomicInteger changeCount = countChanges();
+        uniquePersonList.replaceAll(Map.of(ALICE, BOB, BENSON, editedBenson));
+        assertEquals(1, changeCount.get());
+        assertEquals(Arrays.asList(BOB, editedBenson, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void replaceAll_swapIdentities_success() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB));
+        uniquePersonList.replaceAll(Map.of(ALICE, BOB, BOB, ALICE));
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_invalidReplacements_throwsAndLeavesListUnchanged() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BENSON));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replaceAll(Map.of(CARL, BOB)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(Map.of(ALICE, BENSON)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(Map.of(ALICE, BOB,
+                BENSON, new PersonBuilder(BOB).withPhone("123").build())));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void snapshot_afterModifications_matchesListAndIsUnaffectedByLaterChanges() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.add(BENSON);
+        List<Person> snapshot = uniquePersonList.snapshot();
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), snapshot);
+
+        uniquePersonList.removeAll(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.replaceAll(Map.of(BOB, CARL));
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.snapshot());
+        assertEquals(Arrays.asList(ALICE, BOB, BENSON), snapshot);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +329,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,6 +339,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicatePersons_reportsEveryDuplicateAndLeavesListUnchanged() {
+        uniquePersonList.add(CARL);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BENSON, ALICE, editedBenson, ALICE);
+        try {
+            uniquePersonList.setPersons(listWithDuplicatePersons);
+            throw new AssertionError("Expected a DuplicatePersonException.");
+        } catch (DuplicatePersonException e) {
+            assertEquals(List.of(ALICE.getName(), BENSON.getName()), e.getDuplicateNames());
+        }
+        assertEquals(List.of(CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +365,11 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private AtomicInteger countChanges() {
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        return changeCount;
+    }
 }
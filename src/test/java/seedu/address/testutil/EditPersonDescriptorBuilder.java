@@ -66,7 +66,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Type} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withType(String type) {
-        descriptor.setType(new Type(type));
+        descriptor.setType(Type.of(type));
         return this;
     }
 
@@ -82,7 +82,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Session} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withSession(String session) {
-        descriptor.setSession(new Session(session));
+        descriptor.setSession(Session.of(session));
         return this;
     }
 
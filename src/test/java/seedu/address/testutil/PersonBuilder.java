@@ -36,9 +36,9 @@ public class PersonBuilder {
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
-        type = new Type(DEFAULT_TYPE);
+        type = Type.of(DEFAULT_TYPE);
         telegramUsername = Optional.ofNullable(new TelegramUsername(DEFAULT_TELEGRAM));
-        session = Optional.ofNullable(new Session(DEFAULT_SESSION));
+        session = Optional.ofNullable(Session.of(DEFAULT_SESSION));
     }
 
     /**
@@ -81,7 +81,7 @@ public class PersonBuilder {
      * Sets the {@code Type} of the {@code Person} that we are building.
      */
     public PersonBuilder withType(String type) {
-        this.type = new Type(type);
+        this.type = Type.of(type);
         return this;
     }
 
@@ -104,7 +104,7 @@ public class PersonBuilder {
         if (session == null || session.isBlank()) {
             this.session = Optional.empty();
         } else {
-            this.session = Optional.of(new Session(session));
+            this.session = Optional.of(Session.of(session));
         }
         return this;
     }